@@ -1,15 +1,32 @@
 package io.kestra.plugin.gitlab;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
 import io.kestra.core.http.client.HttpClient;
 import io.kestra.core.http.client.configurations.HttpConfiguration;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -55,6 +72,21 @@ public abstract class AbstractGitLabTask extends Task {
     @PluginProperty(group = "advanced")
     private Property<String> apiPath = Property.ofValue("/api/v4/projects");
 
+    @Schema(
+        title = "Coalesce identical GET requests",
+        description = "When enabled (default), concurrent GET calls for the same URL and token issued on the same worker share a single in-flight request to GitLab instead of each sending their own."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> coalesceRequests = Property.ofValue(true);
+
+    @Schema(
+        title = "GET response cache duration",
+        description = "Optional duration during which a successful GET response is reused for identical requests on the same worker. Only applies when `coalesceRequests` is enabled; disabled when not set."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Duration> responseCacheTtl;
+
     protected HttpClient httpClient(RunContext runContext) throws IllegalVariableEvaluationException {
 
         HttpConfiguration config = null;
@@ -63,10 +95,16 @@ public abstract class AbstractGitLabTask extends Task {
 
     protected HttpRequest.HttpRequestBuilder authenticatedRequestBuilder(String endpoint, RunContext runContext) throws IllegalVariableEvaluationException {
         String baseUrl = runContext.render(this.url).as(String.class).orElse("https://gitlab.com");
-        String renderedToken = runContext.render(this.token).as(String.class).orElseThrow();
-        String fullUrl = baseUrl + endpoint;
+        return authenticatedRequestBuilder(URI.create(baseUrl + endpoint), runContext);
+    }
+
+    protected HttpRequest.HttpRequestBuilder authenticatedRequestBuilder(URI uri, RunContext runContext) throws IllegalVariableEvaluationException {
+        return authenticatedRequestBuilder(uri, runContext.render(this.token).as(String.class).orElseThrow());
+    }
+
+    protected static HttpRequest.HttpRequestBuilder authenticatedRequestBuilder(URI uri, String renderedToken) {
         return HttpRequest.builder()
-            .uri(URI.create(fullUrl))
+            .uri(uri)
             .addHeader("PRIVATE-TOKEN", renderedToken)
             .addHeader("Content-Type", "application/json");
     }
@@ -77,4 +115,179 @@ public abstract class AbstractGitLabTask extends Task {
         return renderedApiPath + "/" + renderedProjectId + "/" + resource;
     }
 
+    protected <T> T renderOrNull(Property<T> property, Class<T> cls, RunContext runContext) throws IllegalVariableEvaluationException {
+        return property == null ? null : runContext.render(property).as(cls).orElse(null);
+    }
+
+    protected <T> List<T> renderListOrNull(Property<List<T>> property, Class<T> cls, RunContext runContext) throws IllegalVariableEvaluationException {
+        return property == null ? null : runContext.render(property).asList(cls);
+    }
+
+    /**
+     * Runs the task inside the task span that parents every request span, marking the span as failed when the task
+     * throws.
+     */
+    protected <T> T traceTask(RunContext runContext, Callable<T> call) throws Exception {
+        return GitLabTracing.runTask(runContext, this, call);
+    }
+
+    protected <T> HttpResponse<T> send(HttpClient client, HttpRequest request, Class<T> cls, RunContext runContext) throws Exception {
+        return send(client, request, cls, requestSettings(runContext));
+    }
+
+    /**
+     * Sends a request with settings rendered once by {@link #requestSettings(RunContext)}, for tasks issuing many
+     * calls.
+     */
+    protected <T> HttpResponse<T> send(HttpClient client, HttpRequest request, Class<T> cls, RequestSettings settings) throws Exception {
+        Span span = GitLabTracing.startRequest(request, settings.projectId());
+        try (Scope ignored = span.makeCurrent()) {
+            HttpResponse<T> response = coalesce(client, request, cls, settings);
+            GitLabTracing.endRequest(span, response);
+            return response;
+        } catch (Exception e) {
+            GitLabTracing.failRequest(span, e);
+            throw e;
+        }
+    }
+
+    private static <T> HttpResponse<T> coalesce(HttpClient client, HttpRequest request, Class<T> cls, RequestSettings settings) throws Exception {
+        if (!"GET".equalsIgnoreCase(request.getMethod()) || !settings.coalesce()) {
+            return client.request(request, cls);
+        }
+
+        String key = request.getUri() + "#" + settings.tokenHash() + "#" + cls.getName();
+
+        return RequestCoalescer.INSTANCE.execute(key, settings.cacheTtl(), () -> client.request(request, cls));
+    }
+
+    protected RequestSettings requestSettings(RunContext runContext) throws IllegalVariableEvaluationException {
+        return new RequestSettings(
+            runContext.render(this.projectId).as(String.class).orElse(null),
+            sha256(runContext.render(this.token).as(String.class).orElseThrow()),
+            runContext.render(this.coalesceRequests).as(Boolean.class).orElse(true),
+            this.responseCacheTtl == null ? null : runContext.render(this.responseCacheTtl).as(Duration.class).orElse(null)
+        );
+    }
+
+    /**
+     * Rendered values {@link #send} needs besides the request; the token is only kept as the hash used in the
+     * coalescing key.
+     */
+    protected record RequestSettings(String projectId, String tokenHash, boolean coalesce, Duration cacheTtl) {
+    }
+
+    /**
+     * Fixed-size pool for concurrent API calls on a shared client; submitted work keeps the current trace context.
+     */
+    protected ExecutorService boundedExecutor(int concurrency) {
+        return Context.taskWrapping(Executors.newFixedThreadPool(Math.max(1, concurrency)));
+    }
+
+    /**
+     * Waits for every future in order and rethrows the first failure as thrown by the task.
+     */
+    protected static <T> List<T> awaitAll(List<Future<T>> futures) throws Exception {
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * Walks every page of a GitLab list endpoint, following the `Link: rel="next"` header (offset or keyset
+     * pagination) and falling back to `X-Next-Page`. Only one page is held in memory at a time.
+     */
+    @SuppressWarnings("unchecked")
+    protected int paginate(HttpClient client, String endpoint, RunContext runContext, PageHandler handler) throws Exception {
+        String baseUrl = runContext.render(this.url).as(String.class).orElse("https://gitlab.com");
+        String renderedToken = runContext.render(this.token).as(String.class).orElseThrow();
+        RequestSettings settings = requestSettings(runContext);
+        URI next = URI.create(baseUrl + endpoint);
+        int pages = 0;
+
+        while (next != null) {
+            HttpRequest request = authenticatedRequestBuilder(next, renderedToken)
+                .method("GET")
+                .build();
+
+            HttpResponse<List> response = send(client, request, List.class, settings);
+            List<Map<String, Object>> page = response.getBody() == null ? List.of() : response.getBody();
+            pages++;
+
+            if (!handler.handle(page)) {
+                break;
+            }
+
+            next = page.isEmpty() ? null : nextPage(response, next);
+        }
+
+        return pages;
+    }
+
+    private static URI nextPage(HttpResponse<?> response, URI current) {
+        if (response.getHeaders() == null) {
+            return null;
+        }
+
+        for (String link : response.getHeaders().allValues("Link")) {
+            for (String part : link.split(",")) {
+                String[] segments = part.split(";");
+                String target = segments[0].trim();
+                for (int i = 1; i < segments.length; i++) {
+                    if (segments[i].trim().replace(" ", "").equals("rel=\"next\"") && target.startsWith("<") && target.endsWith(">")) {
+                        return URI.create(target.substring(1, target.length() - 1));
+                    }
+                }
+            }
+        }
+
+        return response.getHeaders().firstValue("X-Next-Page")
+            .filter(page -> !page.isBlank())
+            .map(page -> withPage(current, page.trim()))
+            .orElse(null);
+    }
+
+    private static URI withPage(URI current, String page) {
+        List<String> params = new ArrayList<>();
+        if (current.getRawQuery() != null) {
+            for (String param : current.getRawQuery().split("&")) {
+                if (!param.startsWith("page=")) {
+                    params.add(param);
+                }
+            }
+        }
+        params.add("page=" + page);
+
+        String uri = current.toString();
+        int queryIndex = uri.indexOf('?');
+        return URI.create((queryIndex < 0 ? uri : uri.substring(0, queryIndex)) + "?" + String.join("&", params));
+    }
+
+    @FunctionalInterface
+    protected interface PageHandler {
+        /**
+         * @return {@code false} to stop paginating
+         */
+        boolean handle(List<Map<String, Object>> page) throws Exception;
+    }
+
+    protected static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 }
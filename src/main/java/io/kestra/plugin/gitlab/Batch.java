@@ -0,0 +1,320 @@
+package io.kestra.plugin.gitlab;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Run several GitLab API calls in one task",
+    description = "Executes an ordered list of project API operations over a single HTTP client, rendering `url`, `token`, `apiPath`, `projectId`, `coalesceRequests` and `responseCacheTtl` once for all of them. " +
+        "Each operation's `path` and `body` are rendered when it runs and can reference the response body of an earlier operation with `{{ results.<operationId> }}` or `{{ results['<operationId>'] }}`. " +
+        "An operation waits for the operations named in `dependsOn` and those referenced through `results` inside its `{{ }}` and `{% %}` expressions; operations that do not depend on each other run concurrently up to `concurrency`. " +
+        "When an operation fails, the operations depending on it are skipped but all the others still complete; the status and `id`/`iid` of each completed operation are logged, and the task then fails with the list of failed operations and the resources already created."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Create an issue, comment on it, and open a merge request in a single task.",
+            full = true,
+            code = """
+                id: gitlab_batch
+                namespace: company.team
+
+                tasks:
+                  - id: batch
+                    type: io.kestra.plugin.gitlab.Batch
+                    token: "{{ secret('GITLAB_TOKEN') }}"
+                    projectId: "123"
+                    operations:
+                      - id: issue
+                        path: issues
+                        body:
+                          title: "Release 1.2.0"
+                          labels: release
+                      - id: comment
+                        path: "issues/{{ results.issue.iid }}/notes"
+                        body:
+                          body: "Release checklist created by Kestra"
+                      - id: merge_request
+                        path: merge_requests
+                        body:
+                          title: "Release 1.2.0"
+                          source_branch: release/1.2.0
+                          target_branch: main
+                """
+        )
+    }
+)
+public class Batch extends AbstractGitLabTask implements RunnableTask<Batch.Output> {
+    private static final Pattern EXPRESSION = Pattern.compile("\\{\\{(.*?)}}|\\{%(.*?)%}", Pattern.DOTALL);
+    private static final Pattern RESULT_REFERENCE = Pattern.compile("(?<![\\w.])results\\s*(?:\\.\\s*(\\w+)|\\[\\s*(['\"])(.+?)\\2\\s*])");
+
+    @Schema(
+        title = "Operations to execute",
+        description = "Ordered list of project API calls. An operation may only depend on operations declared before it."
+    )
+    @NotEmpty
+    @Valid
+    @PluginProperty(group = "main")
+    private List<Operation> operations;
+
+    @Schema(title = "Maximum concurrent operations", description = "Number of independent operations sent to GitLab in parallel.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> concurrency = Property.ofValue(4);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        return traceTask(runContext, () -> {
+            Map<String, Set<String>> dependencies = dependencies();
+
+            String baseUrl = runContext.render(this.getUrl()).as(String.class).orElse("https://gitlab.com");
+            String renderedToken = runContext.render(this.getToken()).as(String.class).orElseThrow();
+            String projectEndpoint = baseUrl + buildApiEndpoint("", runContext);
+
+            RequestSettings settings = requestSettings(runContext);
+
+            Map<String, Object> results = new ConcurrentHashMap<>();
+            Map<String, Integer> statusCodes = new ConcurrentHashMap<>();
+            Map<String, Exception> failures = new LinkedHashMap<>();
+            Set<String> skipped = new LinkedHashSet<>();
+
+            ExecutorService executor = boundedExecutor(runContext.render(this.concurrency).as(Integer.class).orElse(4));
+            try (HttpClient client = httpClient(runContext)) {
+                Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+
+                for (Operation operation : this.operations) {
+                    CompletableFuture<?>[] upstream = dependencies.get(operation.getId()).stream()
+                        .map(futures::get)
+                        .toArray(CompletableFuture[]::new);
+
+                    futures.put(
+                        operation.getId(),
+                        CompletableFuture.allOf(upstream).thenRunAsync(
+                            () -> {
+                                try {
+                                    HttpResponse<String> response = execute(client, operation, projectEndpoint, renderedToken, settings, results, runContext);
+                                    String body = response.getBody();
+                                    results.put(operation.getId(), body == null || body.isBlank() ? Map.of() : JacksonMapper.ofJson().readValue(body, Object.class));
+                                    statusCodes.put(operation.getId(), response.getStatus().getCode());
+                                } catch (Exception e) {
+                                    throw new CompletionException(e);
+                                }
+                            },
+                            executor
+                        )
+                    );
+                }
+
+                // every independent operation completes even when another one fails, so that the resources already
+                // created are reported instead of being lost and created again on retry
+                for (Operation operation : this.operations) {
+                    try {
+                        futures.get(operation.getId()).get();
+                    } catch (ExecutionException e) {
+                        if (dependencies.get(operation.getId()).stream().anyMatch(id -> failures.containsKey(id) || skipped.contains(id))) {
+                            skipped.add(operation.getId());
+                        } else {
+                            failures.put(operation.getId(), e.getCause() instanceof Exception cause ? cause : e);
+                        }
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            Map<String, Object> orderedResults = new LinkedHashMap<>();
+            Map<String, Integer> orderedStatusCodes = new LinkedHashMap<>();
+            for (Operation operation : this.operations) {
+                String id = operation.getId();
+                orderedResults.put(id, results.get(id));
+                orderedStatusCodes.put(id, statusCodes.get(id));
+
+                if (statusCodes.containsKey(id)) {
+                    runContext.logger().info("Operation '{}' completed with status {}{}", id, statusCodes.get(id), identifiers(results.get(id)));
+                } else if (failures.containsKey(id)) {
+                    runContext.logger().error("Operation '{}' failed: {}", id, failures.get(id).getMessage());
+                } else {
+                    runContext.logger().warn("Operation '{}' skipped because an operation it depends on failed", id);
+                }
+            }
+
+            if (!failures.isEmpty()) {
+                IllegalStateException exception = new IllegalStateException(failureMessage(orderedStatusCodes, orderedResults, failures));
+                failures.values().forEach(exception::addSuppressed);
+                throw exception;
+            }
+
+            return Output.builder()
+                .results(orderedResults)
+                .statusCodes(orderedStatusCodes)
+                .build();
+        });
+    }
+
+    private static String failureMessage(Map<String, Integer> statusCodes, Map<String, Object> results, Map<String, Exception> failures) {
+        List<String> operations = new ArrayList<>();
+        for (Map.Entry<String, Integer> operation : statusCodes.entrySet()) {
+            Exception failure = failures.get(operation.getKey());
+            if (operation.getValue() != null) {
+                operations.add(operation.getKey() + " succeeded (" + operation.getValue() + identifiers(results.get(operation.getKey())) + ")");
+            } else if (failure != null) {
+                operations.add(operation.getKey() + " failed (" + failure.getMessage() + ")");
+            } else {
+                operations.add(operation.getKey() + " skipped");
+            }
+        }
+
+        return "Failed to run " + failures.size() + " of " + statusCodes.size() + " operation(s): " + String.join("; ", operations);
+    }
+
+    /**
+     * The `id` and `iid` of the resource returned by an operation, if any, so that created resources can be found
+     * after a failure.
+     */
+    private static String identifiers(Object result) {
+        StringBuilder identifiers = new StringBuilder();
+        if (result instanceof Map<?, ?> body) {
+            for (String key : List.of("id", "iid")) {
+                if (body.get(key) != null) {
+                    identifiers.append(", ").append(key).append(" ").append(body.get(key));
+                }
+            }
+        }
+        return identifiers.toString();
+    }
+
+    private HttpResponse<String> execute(HttpClient client, Operation operation, String projectEndpoint, String renderedToken, RequestSettings settings, Map<String, Object> results, RunContext runContext) throws Exception {
+        Map<String, Object> variables = Map.of("results", new HashMap<>(results));
+
+        String path = runContext.render(operation.getPath()).as(String.class, variables).orElseThrow();
+        HttpRequest.HttpRequestBuilder builder = authenticatedRequestBuilder(URI.create(projectEndpoint + path), renderedToken)
+            .method(operation.getMethod());
+
+        if (operation.getBody() != null) {
+            Map<String, Object> body = runContext.render(operation.getBody()).asMap(String.class, Object.class, variables);
+            builder.body(new HttpRequest.StringRequestBody("application/json", StandardCharsets.UTF_8, JacksonMapper.ofJson().writeValueAsString(body)));
+        }
+
+        return send(client, builder.build(), String.class, settings);
+    }
+
+    /**
+     * Resolves, for each operation, the earlier operations it waits for: explicit `dependsOn` plus every
+     * `results.<id>` or `results['<id>']` referenced inside an expression of its path or body. Text outside
+     * expressions, such as `see results.xml`, is never treated as a reference.
+     */
+    private Map<String, Set<String>> dependencies() throws Exception {
+        Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+
+        for (Operation operation : this.operations) {
+            if (dependencies.containsKey(operation.getId())) {
+                throw new IllegalArgumentException("Duplicate operation id '" + operation.getId() + "'");
+            }
+
+            Set<String> upstream = new LinkedHashSet<>();
+            if (operation.getDependsOn() != null) {
+                upstream.addAll(operation.getDependsOn());
+            }
+
+            upstream.addAll(references(operation.getPath()));
+            upstream.addAll(references(operation.getBody()));
+
+            for (String id : upstream) {
+                if (!dependencies.containsKey(id)) {
+                    throw new IllegalArgumentException("Operation '" + operation.getId() + "' depends on '" + id + "', which is not declared before it");
+                }
+            }
+
+            dependencies.put(operation.getId(), upstream);
+        }
+
+        return dependencies;
+    }
+
+    private static Set<String> references(Property<?> property) {
+        Set<String> references = new LinkedHashSet<>();
+        if (property == null) {
+            return references;
+        }
+
+        Matcher expressions = EXPRESSION.matcher(property.toString());
+        while (expressions.find()) {
+            Matcher matcher = RESULT_REFERENCE.matcher(expressions.group(1) != null ? expressions.group(1) : expressions.group(2));
+            while (matcher.find()) {
+                references.add(matcher.group(1) != null ? matcher.group(1) : matcher.group(3));
+            }
+        }
+        return references;
+    }
+
+    @Value
+    @Builder
+    @Jacksonized
+    public static class Operation {
+        @Schema(title = "Operation identifier", description = "Unique id used to reference the operation's result as `results.<id>`.")
+        @NotNull
+        String id;
+
+        @Schema(title = "HTTP method", description = "Method of the API call; defaults to `POST`.")
+        @Builder.Default
+        String method = "POST";
+
+        @Schema(title = "Project resource path", description = "Path relative to the project endpoint, e.g. `issues` or `merge_requests/{{ results.mr.iid }}/notes`; rendered when the operation runs.")
+        @NotNull
+        Property<String> path;
+
+        @Schema(title = "Request body", description = "JSON body of the call; rendered when the operation runs.")
+        Property<Map<String, Object>> body;
+
+        @Schema(title = "Explicit dependencies", description = "Ids of earlier operations to wait for, in addition to those referenced through `results`.")
+        List<String> dependsOn;
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Operation results", description = "Parsed response body of each operation, keyed by operation id.")
+        private Map<String, Object> results;
+
+        @Schema(title = "HTTP status codes", description = "HTTP response code of each operation, keyed by operation id.")
+        private Map<String, Integer> statusCodes;
+    }
+}
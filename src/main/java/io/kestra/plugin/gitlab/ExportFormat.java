@@ -0,0 +1,6 @@
+package io.kestra.plugin.gitlab;
+
+public enum ExportFormat {
+    ION,
+    CSV
+}
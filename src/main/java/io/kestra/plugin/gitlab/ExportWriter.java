@@ -0,0 +1,240 @@
+package io.kestra.plugin.gitlab;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Writes GitLab records row by row to a temporary file in the task working directory, flattening nested
+ * objects into dotted columns (e.g. `author.username`), then uploads the file to internal storage.
+ * <p>
+ * Without explicit columns, ION rows keep all their own fields, and CSV rows are spooled to a temporary ION file
+ * so that the header can be the union of the columns of every record, written once all records are known.
+ */
+public class ExportWriter implements AutoCloseable {
+    private final RunContext runContext;
+    private final ExportFormat format;
+    private final Path path;
+    private final OutputStream output;
+    private final Writer csvWriter;
+
+    private final List<String> columns;
+    private final Path spoolPath;
+    private final OutputStream spool;
+    // union of the flattened keys in order of appearance, and those that held a value at least once
+    private final Set<String> seenColumns = new LinkedHashSet<>();
+    private final Set<String> valuedColumns = new HashSet<>();
+    private long count = 0;
+    private boolean closed = false;
+
+    private ExportWriter(RunContext runContext, ExportFormat format, List<String> columns) throws IOException {
+        this.runContext = runContext;
+        this.format = format;
+        this.columns = columns == null || columns.isEmpty() ? null : List.copyOf(columns);
+        this.path = runContext.workingDir().createTempFile(format == ExportFormat.CSV ? ".csv" : ".ion");
+        this.output = new BufferedOutputStream(Files.newOutputStream(this.path));
+        this.csvWriter = format == ExportFormat.CSV ? new BufferedWriter(new OutputStreamWriter(this.output, StandardCharsets.UTF_8)) : null;
+
+        if (format == ExportFormat.CSV && this.columns == null) {
+            this.spoolPath = runContext.workingDir().createTempFile(".ion");
+            this.spool = new BufferedOutputStream(Files.newOutputStream(this.spoolPath));
+        } else {
+            this.spoolPath = null;
+            this.spool = null;
+        }
+    }
+
+    public static ExportWriter of(RunContext runContext, ExportFormat format, List<String> columns) throws IOException {
+        return new ExportWriter(runContext, format, columns);
+    }
+
+    public void write(Map<String, Object> record) throws IOException {
+        Map<String, Object> flat = flatten(record);
+
+        if (this.columns == null) {
+            for (Map.Entry<String, Object> entry : this.spool == null ? Map.<String, Object>of().entrySet() : flat.entrySet()) {
+                this.seenColumns.add(entry.getKey());
+                if (entry.getValue() != null) {
+                    this.valuedColumns.add(entry.getKey());
+                }
+            }
+            FileSerde.write(this.spool != null ? this.spool : this.output, flat);
+        } else if (this.format == ExportFormat.CSV) {
+            if (this.count == 0) {
+                writeCsvLine(new ArrayList<>(this.columns));
+            }
+            List<Object> values = new ArrayList<>(this.columns.size());
+            for (String column : this.columns) {
+                values.add(column(record, flat, column));
+            }
+            writeCsvLine(values);
+        } else {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String column : this.columns) {
+                row.put(column, column(record, flat, column));
+            }
+            FileSerde.write(this.output, row);
+        }
+
+        this.count++;
+    }
+
+    private static Object column(Map<String, Object> record, Map<String, Object> flat, String column) {
+        // a projection may also select a whole nested object, e.g. `milestone`
+        return flat.containsKey(column) ? flat.get(column) : valueAt(record, column);
+    }
+
+    public long count() {
+        return this.count;
+    }
+
+    /**
+     * Closes the file and uploads it to internal storage. A CSV export with explicit columns always gets its header,
+     * even without any record, so that loaders mapping columns by header accept it.
+     */
+    public URI store() throws IOException {
+        if (this.format == ExportFormat.CSV && this.columns != null && this.count == 0 && !this.closed) {
+            writeCsvLine(new ArrayList<>(this.columns));
+        }
+        if (this.spool != null && !this.closed) {
+            this.spool.close();
+            writeSpooledCsv();
+        }
+        this.close();
+        return this.runContext.storage().putFile(this.path.toFile());
+    }
+
+    /**
+     * Columns of a CSV export without explicit columns: every flattened key seen, except keys that never held a value
+     * and are the parent of other columns, e.g. `milestone` when it was `null` on some issues and an object on others.
+     */
+    List<String> unionColumns() {
+        List<String> union = new ArrayList<>();
+        for (String column : this.seenColumns) {
+            if (!this.valuedColumns.contains(column) && this.seenColumns.stream().anyMatch(other -> other.startsWith(column + "."))) {
+                continue;
+            }
+            union.add(column);
+        }
+        return union;
+    }
+
+    private void writeSpooledCsv() throws IOException {
+        if (this.count == 0) {
+            return;
+        }
+
+        List<String> union = unionColumns();
+        writeCsvLine(new ArrayList<>(union));
+        try (BufferedReader reader = Files.newBufferedReader(this.spoolPath, StandardCharsets.UTF_8)) {
+            for (Object row : FileSerde.readAll(reader).toIterable()) {
+                Map<?, ?> flat = (Map<?, ?>) row;
+                List<Object> values = new ArrayList<>(union.size());
+                for (String column : union) {
+                    values.add(flat.get(column));
+                }
+                writeCsvLine(values);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+
+        if (this.spool != null) {
+            this.spool.close();
+        }
+
+        if (this.csvWriter != null) {
+            this.csvWriter.close();
+        } else {
+            this.output.close();
+        }
+    }
+
+    /**
+     * Reads a dotted path such as `milestone.title` from nested maps.
+     */
+    @SuppressWarnings("unchecked")
+    public static Object valueAt(Map<String, Object> record, String dottedPath) {
+        Object current = record;
+        for (String key : dottedPath.split("\\.")) {
+            if (!(current instanceof Map<?, ?> map)) {
+                return null;
+            }
+            current = ((Map<String, Object>) map).get(key);
+        }
+        return current;
+    }
+
+    static Map<String, Object> flatten(Map<String, Object> record) {
+        Map<String, Object> flat = new LinkedHashMap<>();
+        flatten("", record, flat);
+        return flat;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void flatten(String prefix, Map<String, Object> source, Map<String, Object> target) {
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            String key = prefix + entry.getKey();
+            if (entry.getValue() instanceof Map<?, ?> nested && !nested.isEmpty()) {
+                flatten(key + ".", (Map<String, Object>) nested, target);
+            } else {
+                target.put(key, entry.getValue());
+            }
+        }
+    }
+
+    private void writeCsvLine(List<Object> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                this.csvWriter.write(',');
+            }
+            this.csvWriter.write(csvValue(values.get(i)));
+        }
+        this.csvWriter.write("\r\n");
+    }
+
+    private static String csvValue(Object value) throws IOException {
+        if (value == null) {
+            return "";
+        }
+
+        String text;
+        if (value instanceof List<?> list && list.stream().allMatch(item -> item == null || item instanceof String || item instanceof Number || item instanceof Boolean)) {
+            text = String.join(",", list.stream().map(item -> item == null ? "" : item.toString()).toList());
+        } else if (value instanceof Map<?, ?> || value instanceof List<?>) {
+            text = JacksonMapper.ofJson().writeValueAsString(value);
+        } else {
+            text = value.toString();
+        }
+
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,87 @@
+package io.kestra.plugin.gitlab;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps only selected dotted field paths of GitLab records, preserving their nested structure: with
+ * {@code iid} and {@code author.username}, {@code {"iid": 1, "title": "...", "author": {"id": 2, "username": "jdoe"}}}
+ * becomes {@code {"iid": 1, "author": {"username": "jdoe"}}}. Paths through lists apply to every element, so
+ * {@code assignees.username} keeps the username of each assignee.
+ */
+public final class FieldProjection {
+    private final Node root = new Node();
+
+    private FieldProjection(List<String> fields) {
+        for (String field : fields) {
+            Node node = root;
+            for (String key : field.split("\\.")) {
+                if (node.leaf) {
+                    break;
+                }
+                node = node.children.computeIfAbsent(key, k -> new Node());
+            }
+            // a shorter path keeps the whole sub-tree
+            node.leaf = true;
+            node.children.clear();
+        }
+    }
+
+    /**
+     * @return the projection, or {@code null} when no field is selected
+     */
+    public static FieldProjection of(List<String> fields) {
+        return fields == null || fields.isEmpty() ? null : new FieldProjection(fields);
+    }
+
+    public Map<String, Object> apply(Map<String, Object> record) {
+        return project(record, root);
+    }
+
+    public List<Map<String, Object>> apply(List<Map<String, Object>> records) {
+        List<Map<String, Object>> projected = new ArrayList<>(records.size());
+        for (Map<String, Object> record : records) {
+            projected.add(apply(record));
+        }
+        return projected;
+    }
+
+    private static Map<String, Object> project(Map<String, Object> record, Node node) {
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (Map.Entry<String, Node> child : node.children.entrySet()) {
+            if (record.containsKey(child.getKey())) {
+                projected.put(child.getKey(), project(record.get(child.getKey()), child.getValue()));
+            }
+        }
+        return projected;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object project(Object value, Node node) {
+        if (node.leaf || value == null) {
+            return value;
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            return project((Map<String, Object>) map, node);
+        }
+
+        if (value instanceof List<?> list) {
+            List<Object> projected = new ArrayList<>(list.size());
+            for (Object element : list) {
+                projected.add(project(element, node));
+            }
+            return projected;
+        }
+
+        // a scalar where a nested field was expected
+        return null;
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private boolean leaf;
+    }
+}
@@ -0,0 +1,148 @@
+package io.kestra.plugin.gitlab;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.RunContext;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapGetter;
+
+/**
+ * OpenTelemetry spans for GitLab tasks: one span per task run, parented to the Kestra execution trace when
+ * available, and one client span per HTTP call made through {@link AbstractGitLabTask}.
+ */
+final class GitLabTracing {
+    static final String INSTRUMENTATION_SCOPE = "io.kestra.plugin.gitlab";
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+    private static final Pattern PROJECT_SEGMENT = Pattern.compile("/projects/[^/]+");
+    private static final Pattern PAGE_PARAMETER = Pattern.compile("(?:^|&)page=(\\d+)");
+
+    private static final TextMapGetter<Map<String, String>> MAP_GETTER = new TextMapGetter<>() {
+        @Override
+        public Iterable<String> keys(Map<String, String> carrier) {
+            return carrier.keySet();
+        }
+
+        @Override
+        public String get(Map<String, String> carrier, String key) {
+            return carrier == null ? null : carrier.get(key);
+        }
+    };
+
+    private GitLabTracing() {
+    }
+
+    private static Tracer tracer() {
+        return GlobalOpenTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+    }
+
+    /**
+     * Runs a task inside its span; an exception thrown by the task is recorded on the span, which is then marked
+     * as failed.
+     */
+    static <T> T runTask(RunContext runContext, Task task, Callable<T> call) throws Exception {
+        Context parent = Context.current();
+        String traceParent = runContext.getTraceParent();
+        if (traceParent != null) {
+            parent = W3CTraceContextPropagator.getInstance().extract(parent, Map.of("traceparent", traceParent), MAP_GETTER);
+        }
+
+        Span span = tracer().spanBuilder("gitlab.task " + task.getType())
+            .setParent(parent)
+            .setAttribute("kestra.task.id", task.getId())
+            .setAttribute("kestra.task.type", task.getType())
+            .startSpan();
+
+        try (Scope ignored = span.makeCurrent()) {
+            return call.call();
+        } catch (Throwable e) {
+            fail(span, e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    static Span startRequest(HttpRequest request, String projectId) {
+        URI uri = request.getUri();
+        String endpoint = PROJECT_SEGMENT.matcher(uri.getRawPath()).replaceFirst("/projects/{id}");
+        endpoint = NUMERIC_SEGMENT.matcher(endpoint).replaceAll("/{id}");
+
+        int page = 1;
+        if (uri.getRawQuery() != null) {
+            Matcher matcher = PAGE_PARAMETER.matcher(uri.getRawQuery());
+            if (matcher.find()) {
+                page = Integer.parseInt(matcher.group(1));
+            }
+        }
+
+        return tracer().spanBuilder(request.getMethod() + " " + endpoint)
+            .setSpanKind(SpanKind.CLIENT)
+            .setAttribute("http.request.method", request.getMethod())
+            .setAttribute("url.template", endpoint)
+            .setAttribute("server.address", uri.getHost())
+            .setAttribute("gitlab.project", projectId)
+            .setAttribute("gitlab.page", page)
+            .startSpan();
+    }
+
+    static void endRequest(Span span, HttpResponse<?> response) {
+        if (response.getStatus() != null) {
+            span.setAttribute("http.response.status_code", response.getStatus().getCode());
+            if (response.getStatus().getCode() >= 400) {
+                span.setStatus(StatusCode.ERROR);
+            }
+        }
+        Long bodySize = bodySize(response);
+        if (bodySize != null) {
+            span.setAttribute("http.response.body.size", bodySize);
+        }
+        span.end();
+    }
+
+    /**
+     * Size of the response body from `Content-Length`, or measured on the body itself when it was read as text or
+     * bytes; `null` for chunked responses already parsed into objects, which are not serialized again to be measured.
+     */
+    static Long bodySize(HttpResponse<?> response) {
+        if (response.getHeaders() != null) {
+            OptionalLong contentLength = response.getHeaders().firstValueAsLong("Content-Length");
+            if (contentLength.isPresent()) {
+                return contentLength.getAsLong();
+            }
+        }
+
+        return switch (response.getBody()) {
+            case String text -> (long) text.getBytes(StandardCharsets.UTF_8).length;
+            case byte[] bytes -> (long) bytes.length;
+            case null, default -> null;
+        };
+    }
+
+    static void failRequest(Span span, Exception exception) {
+        fail(span, exception);
+        span.end();
+    }
+
+    private static void fail(Span span, Throwable exception) {
+        span.recordException(exception);
+        span.setStatus(StatusCode.ERROR, exception.getMessage() == null ? exception.getClass().getName() : exception.getMessage());
+    }
+}
@@ -0,0 +1,73 @@
+package io.kestra.plugin.gitlab;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ordered, URL-encoded query string builder for GitLab REST endpoints. Null values are skipped, collections
+ * can be sent either comma-joined (`labels=a,b`) or as repeated array parameters (`iids[]=1&iids[]=2`).
+ */
+public class QueryParameters {
+    private final List<Map.Entry<String, String>> entries = new ArrayList<>();
+
+    public QueryParameters add(String name, Object value) {
+        if (value != null) {
+            this.entries.add(Map.entry(name, format(value)));
+        }
+        return this;
+    }
+
+    public QueryParameters addJoined(String name, Collection<?> values) {
+        if (values != null && !values.isEmpty()) {
+            this.entries.add(Map.entry(name, String.join(",", values.stream().map(QueryParameters::format).toList())));
+        }
+        return this;
+    }
+
+    public QueryParameters addArray(String name, Collection<?> values) {
+        if (values != null) {
+            for (Object value : values) {
+                this.add(name + "[]", value);
+            }
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return this.entries.isEmpty();
+    }
+
+    /**
+     * @return the encoded query string prefixed with `?`, or an empty string when there is no parameter
+     */
+    @Override
+    public String toString() {
+        if (this.entries.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder("?");
+        for (Map.Entry<String, String> entry : this.entries) {
+            if (builder.length() > 1) {
+                builder.append('&');
+            }
+            builder.append(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8))
+                .append('=')
+                .append(URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8));
+        }
+        return builder.toString();
+    }
+
+    private static String format(Object value) {
+        if (value instanceof ZonedDateTime dateTime) {
+            return dateTime.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        }
+        return value.toString();
+    }
+}
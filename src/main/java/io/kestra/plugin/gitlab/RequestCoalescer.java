@@ -0,0 +1,105 @@
+package io.kestra.plugin.gitlab;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.kestra.core.http.HttpResponse;
+
+/**
+ * Shares a single in-flight GET between concurrent callers using the same key, and optionally keeps
+ * successful responses for a short time so that fan-out executions hit GitLab only once.
+ */
+final class RequestCoalescer {
+    static final RequestCoalescer INSTANCE = new RequestCoalescer();
+
+    static final int MAX_CACHED_RESPONSES = 256;
+
+    // a waiter gives up on a stuck leader after this delay and sends its own request
+    private static final Duration WAIT_TIMEOUT = Duration.ofMinutes(5);
+
+    private final Map<String, CompletableFuture<HttpResponse<?>>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    <T> HttpResponse<T> execute(String key, Duration ttl, Callable<HttpResponse<T>> call) throws Exception {
+        boolean cacheable = ttl != null && !ttl.isNegative() && !ttl.isZero();
+
+        if (cacheable) {
+            CachedResponse cached = cache.get(key);
+            if (cached != null) {
+                if (cached.expiresAt().isAfter(Instant.now())) {
+                    return (HttpResponse<T>) cached.response();
+                }
+                cache.remove(key, cached);
+            }
+        }
+
+        CompletableFuture<HttpResponse<?>> own = new CompletableFuture<>();
+        CompletableFuture<HttpResponse<?>> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            return await(existing, call);
+        }
+
+        try {
+            HttpResponse<T> response = call.call();
+            if (cacheable) {
+                cache(key, response, ttl);
+            }
+            own.complete(response);
+            return response;
+        } catch (Throwable e) {
+            // errors too: waiters must never block on a future that is not completed
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Caches a response until it expires, evicting it on expiry and bounding the cache to {@link #MAX_CACHED_RESPONSES}
+     * entries by dropping the ones closest to expiry.
+     */
+    private void cache(String key, HttpResponse<?> response, Duration ttl) {
+        Instant now = Instant.now();
+        cache.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+        while (cache.size() >= MAX_CACHED_RESPONSES) {
+            cache.entrySet().stream()
+                .min(Comparator.comparing(entry -> entry.getValue().expiresAt()))
+                .ifPresent(entry -> cache.remove(entry.getKey(), entry.getValue()));
+        }
+
+        CachedResponse entry = new CachedResponse(response, now.plus(ttl));
+        cache.put(key, entry);
+        CompletableFuture.delayedExecutor(ttl.toMillis(), TimeUnit.MILLISECONDS)
+            .execute(() -> cache.remove(key, entry));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> HttpResponse<T> await(CompletableFuture<HttpResponse<?>> future, Callable<HttpResponse<T>> call) throws Exception {
+        try {
+            return (HttpResponse<T>) future.get(WAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return call.call();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record CachedResponse(HttpResponse<?> response, Instant expiresAt) {
+    }
+}
@@ -90,42 +90,44 @@ public class Create extends AbstractGitLabTask implements RunnableTask<Create.Ou
 
     @Override
     public Output run(RunContext runContext) throws Exception {
-        try (HttpClient client = httpClient(runContext)) {
-
-            Map<String, Object> body = new HashMap<>();
-            body.put("title", runContext.render(this.title).as(String.class).orElseThrow());
-            if (this.issueDescription != null) {
-                body.put("description", runContext.render(this.issueDescription).as(String.class).orElseThrow());
-            }
-            if (this.labels != null) {
-                List<String> renderedLabels = runContext.render(this.labels).asList(String.class);
-                body.put("labels", renderedLabels);
-            }
-            ObjectMapper mapper = new ObjectMapper();
-            String jsonBody = mapper.writeValueAsString(body);
-            String endpoint = buildApiEndpoint("issues", runContext);
-
-            HttpRequest request = authenticatedRequestBuilder(endpoint, runContext)
-                .method("POST")
-                .body(
-                    new HttpRequest.StringRequestBody(
-                        "application/json",
-                        StandardCharsets.UTF_8,
-                        jsonBody
+        return traceTask(runContext, () -> {
+            try (HttpClient client = httpClient(runContext)) {
+
+                Map<String, Object> body = new HashMap<>();
+                body.put("title", runContext.render(this.title).as(String.class).orElseThrow());
+                if (this.issueDescription != null) {
+                    body.put("description", runContext.render(this.issueDescription).as(String.class).orElseThrow());
+                }
+                if (this.labels != null) {
+                    List<String> renderedLabels = runContext.render(this.labels).asList(String.class);
+                    body.put("labels", renderedLabels);
+                }
+                ObjectMapper mapper = new ObjectMapper();
+                String jsonBody = mapper.writeValueAsString(body);
+                String endpoint = buildApiEndpoint("issues", runContext);
+
+                HttpRequest request = authenticatedRequestBuilder(endpoint, runContext)
+                    .method("POST")
+                    .body(
+                        new HttpRequest.StringRequestBody(
+                            "application/json",
+                            StandardCharsets.UTF_8,
+                            jsonBody
+                        )
                     )
-                )
-                .build();
+                    .build();
 
-            HttpResponse<Map> response = client.request(request, Map.class);
+                HttpResponse<Map> response = send(client, request, Map.class, runContext);
 
-            Map<String, Object> result = response.getBody();
+                Map<String, Object> result = response.getBody();
 
-            return Output.builder()
-                .issueId(result.get("id").toString())
-                .webUrl(result.get("web_url").toString())
-                .statusCode(response.getStatus().getCode())
-                .build();
-        }
+                return Output.builder()
+                    .issueId(result.get("id").toString())
+                    .webUrl(result.get("web_url").toString())
+                    .statusCode(response.getStatus().getCode())
+                    .build();
+            }
+        });
     }
 
     @Builder
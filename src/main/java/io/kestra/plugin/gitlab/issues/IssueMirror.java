@@ -0,0 +1,259 @@
+package io.kestra.plugin.gitlab.issues;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import io.kestra.core.exceptions.ResourceExpiredException;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+/**
+ * Local copy of a project's issues kept in the namespace KV store, queried through an inverted index over
+ * title, description and labels.
+ * <p>
+ * Only a compact record of each issue is kept (see {@link #FIELDS}) together with its distinct search tokens, so
+ * descriptions and nested objects are never stored. Issues are split into chunks of {@link #CHUNK_SIZE} consecutive
+ * IIDs, each in its own KV entry next to a small manifest entry; a sync only rewrites the chunks it changed, and
+ * loading rebuilds the index from the stored tokens without tokenizing any text.
+ */
+final class IssueMirror {
+    static final int CHUNK_SIZE = 1000;
+
+    /**
+     * Fields kept for each issue, returned as the issues of a mirror query.
+     */
+    static final List<String> FIELDS = List.of("id", "iid", "project_id", "title", "state", "labels", "web_url", "created_at", "updated_at", "closed_at");
+
+    private static final String SYNCED_AT = "syncedAt";
+    private static final String CURSOR = "cursor";
+    private static final String CHUNKS = "chunks";
+    private static final String TOKENS = "tokens";
+    private static final String AUTHOR = "author";
+
+    private final Map<String, Map<String, Object>> issues;
+    private final Map<String, List<String>> tokens;
+    private final Set<Long> chunks;
+    private final Set<Long> dirtyChunks = new HashSet<>();
+    private Instant syncedAt;
+    private String cursor;
+    private TreeMap<String, Set<String>> index;
+
+    private IssueMirror(Map<String, Map<String, Object>> issues, Map<String, List<String>> tokens, Set<Long> chunks, Instant syncedAt, String cursor) {
+        this.issues = issues;
+        this.tokens = tokens;
+        this.chunks = chunks;
+        this.syncedAt = syncedAt;
+        this.cursor = cursor;
+    }
+
+    @SuppressWarnings("unchecked")
+    static IssueMirror load(KVStore store, String key) throws IOException, ResourceExpiredException {
+        Map<String, Map<String, Object>> issues = new LinkedHashMap<>();
+        Map<String, List<String>> tokens = new HashMap<>();
+        Set<Long> chunks = new TreeSet<>();
+
+        Optional<KVValue> value = store.getValue(key);
+        // a missing or unreadable manifest starts a full sync
+        if (value.isEmpty() || !(value.get().value() instanceof Map<?, ?> manifest) || !(manifest.get(CHUNKS) instanceof Collection<?> chunkIds)) {
+            return new IssueMirror(issues, tokens, chunks, null, null);
+        }
+
+        for (Object chunkId : chunkIds) {
+            long chunk = ((Number) chunkId).longValue();
+            chunks.add(chunk);
+
+            Optional<KVValue> chunkValue = store.getValue(chunkKey(key, chunk));
+            if (chunkValue.isPresent() && chunkValue.get().value() instanceof Collection<?> entries) {
+                for (Object entry : entries) {
+                    Map<String, Object> issue = new LinkedHashMap<>((Map<String, Object>) entry);
+                    String iid = String.valueOf(issue.get("iid"));
+                    Object issueTokens = issue.remove(TOKENS);
+                    tokens.put(iid, issueTokens instanceof List<?> list ? (List<String>) list : List.of());
+                    issues.put(iid, issue);
+                }
+            }
+        }
+
+        return new IssueMirror(
+            issues,
+            tokens,
+            chunks,
+            manifest.get(SYNCED_AT) == null ? null : Instant.parse(manifest.get(SYNCED_AT).toString()),
+            manifest.get(CURSOR) == null ? null : manifest.get(CURSOR).toString()
+        );
+    }
+
+    /**
+     * Writes the chunks changed since the mirror was loaded, then the manifest.
+     */
+    void save(KVStore store, String key) throws IOException {
+        Map<Long, List<Map<String, Object>>> changed = new HashMap<>();
+        for (Long chunk : this.dirtyChunks) {
+            changed.put(chunk, new ArrayList<>());
+        }
+        for (Map.Entry<String, Map<String, Object>> entry : this.issues.entrySet()) {
+            long chunk = chunk(entry.getValue());
+            if (changed.containsKey(chunk)) {
+                Map<String, Object> stored = new LinkedHashMap<>(entry.getValue());
+                stored.put(TOKENS, this.tokens.get(entry.getKey()));
+                changed.get(chunk).add(stored);
+            }
+        }
+
+        for (Map.Entry<Long, List<Map<String, Object>>> chunk : changed.entrySet()) {
+            store.put(chunkKey(key, chunk.getKey()), new KVValueAndMetadata(new KVMetadata("GitLab issue mirror chunk", (Duration) null), chunk.getValue()));
+        }
+        this.dirtyChunks.clear();
+
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put(SYNCED_AT, this.syncedAt == null ? null : this.syncedAt.toString());
+        manifest.put(CURSOR, this.cursor);
+        manifest.put(CHUNKS, new ArrayList<>(this.chunks));
+
+        store.put(key, new KVValueAndMetadata(new KVMetadata("GitLab issue mirror", (Duration) null), manifest));
+    }
+
+    boolean isStale(Duration maxStaleness, Instant now) {
+        return this.syncedAt == null || this.syncedAt.plus(maxStaleness).isBefore(now);
+    }
+
+    Instant getSyncedAt() {
+        return this.syncedAt;
+    }
+
+    /**
+     * @return the highest `updated_at` seen so far, used as `updated_after` for the next incremental sync
+     */
+    String getCursor() {
+        return this.cursor;
+    }
+
+    void upsert(Map<String, Object> issue) {
+        Map<String, Object> compact = new LinkedHashMap<>();
+        for (String field : FIELDS) {
+            compact.put(field, issue.get(field));
+        }
+        if (issue.get(AUTHOR) instanceof Map<?, ?> author) {
+            compact.put(AUTHOR, Map.of("username", String.valueOf(author.get("username"))));
+        }
+
+        Set<String> issueTokens = new LinkedHashSet<>();
+        issueTokens.addAll(tokenize(issue.get("title")));
+        issueTokens.addAll(tokenize(issue.get("description")));
+        if (issue.get("labels") instanceof Collection<?> issueLabels) {
+            issueLabels.forEach(label -> issueTokens.addAll(tokenize(label)));
+        }
+
+        String iid = String.valueOf(issue.get("iid"));
+        this.issues.put(iid, compact);
+        this.tokens.put(iid, new ArrayList<>(issueTokens));
+
+        long chunk = chunk(compact);
+        this.chunks.add(chunk);
+        this.dirtyChunks.add(chunk);
+
+        Object updatedAt = issue.get("updated_at");
+        if (updatedAt != null && (this.cursor == null || Instant.parse(updatedAt.toString()).isAfter(Instant.parse(this.cursor)))) {
+            this.cursor = updatedAt.toString();
+        }
+        this.index = null;
+    }
+
+    void markSynced(Instant now) {
+        this.syncedAt = now;
+    }
+
+    int size() {
+        return this.issues.size();
+    }
+
+    /**
+     * Every search token must prefix-match a token of the title, description or labels; labels must all be
+     * present and `state` may be `all`. Results are ordered by most recently created first, like the API.
+     */
+    List<Map<String, Object>> query(String search, String state, List<String> labels) {
+        Collection<String> candidates = this.issues.keySet();
+
+        if (search != null && !search.isBlank()) {
+            TreeMap<String, Set<String>> tokenIndex = index();
+            Set<String> matches = null;
+            for (String token : tokenize(search)) {
+                Set<String> tokenMatches = new HashSet<>();
+                tokenIndex.subMap(token, true, token + Character.MAX_VALUE, true).values().forEach(tokenMatches::addAll);
+                if (matches == null) {
+                    matches = tokenMatches;
+                } else {
+                    matches.retainAll(tokenMatches);
+                }
+            }
+            candidates = matches == null ? candidates : matches;
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String iid : candidates) {
+            Map<String, Object> issue = this.issues.get(iid);
+            if (state != null && !"all".equals(state) && !state.equals(issue.get("state"))) {
+                continue;
+            }
+            if (labels != null && !labels.isEmpty() && !(issue.get("labels") instanceof Collection<?> issueLabels && issueLabels.containsAll(labels))) {
+                continue;
+            }
+            results.add(issue);
+        }
+
+        results.sort(Comparator.comparing((Map<String, Object> issue) -> ((Number) issue.get("iid")).longValue()).reversed());
+        return results;
+    }
+
+    private TreeMap<String, Set<String>> index() {
+        if (this.index == null) {
+            TreeMap<String, Set<String>> built = new TreeMap<>();
+            for (Map.Entry<String, List<String>> entry : this.tokens.entrySet()) {
+                for (String token : entry.getValue()) {
+                    built.computeIfAbsent(token, k -> new HashSet<>()).add(entry.getKey());
+                }
+            }
+            this.index = built;
+        }
+        return this.index;
+    }
+
+    private static long chunk(Map<String, Object> issue) {
+        return ((Number) issue.get("iid")).longValue() / CHUNK_SIZE;
+    }
+
+    private static String chunkKey(String key, long chunk) {
+        return key + "_" + chunk;
+    }
+
+    private static List<String> tokenize(Object text) {
+        if (text == null) {
+            return List.of();
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toString().toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -1,11 +1,14 @@
 package io.kestra.plugin.gitlab.issues;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.http.HttpRequest;
 import io.kestra.core.http.HttpResponse;
 import io.kestra.core.http.client.HttpClient;
@@ -14,7 +17,12 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVStore;
 import io.kestra.plugin.gitlab.AbstractGitLabTask;
+import io.kestra.plugin.gitlab.ExportFormat;
+import io.kestra.plugin.gitlab.ExportWriter;
+import io.kestra.plugin.gitlab.FieldProjection;
+import io.kestra.plugin.gitlab.QueryParameters;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -71,6 +79,49 @@ import io.kestra.core.models.annotations.PluginProperty;
                       - bug
                       - critical
                 """
+        ),
+        @Example(
+            title = "Search issues updated in the last day and assigned to a user, filtered on the server.",
+            full = true,
+            code = """
+                id: gitlab_search_recent_issues
+                namespace: company.team
+
+                tasks:
+                  - id: search_issues
+                    type: io.kestra.plugin.gitlab.issues.Search
+                    token: "{{ secret('GITLAB_TOKEN') }}"
+                    projectId: "123"
+                    updatedAfter: "{{ now() | dateAdd(-1, 'DAYS') }}"
+                    assigneeId: "42"
+                    notLabels:
+                      - wontfix
+                    orderBy: updated_at
+                    sort: desc
+                    perPage: 100
+                """
+        ),
+        @Example(
+            title = "Export all open issues of a project to a CSV file with selected columns.",
+            full = true,
+            code = """
+                id: gitlab_export_issues
+                namespace: company.team
+
+                tasks:
+                  - id: export_issues
+                    type: io.kestra.plugin.gitlab.issues.Search
+                    token: "{{ secret('GITLAB_TOKEN') }}"
+                    projectId: "123"
+                    exportFormat: CSV
+                    columns:
+                      - iid
+                      - title
+                      - state
+                      - author.username
+                      - milestone.title
+                      - created_at
+                """
         )
     }
 )
@@ -89,41 +140,293 @@ public class Search extends AbstractGitLabTask implements RunnableTask<Search.Ou
     @PluginProperty(group = "advanced")
     private Property<List<String>> labels;
 
+    @Schema(title = "Created after", description = "Only return issues created on or after this date-time.")
+    @PluginProperty(group = "advanced")
+    private Property<ZonedDateTime> createdAfter;
+
+    @Schema(title = "Created before", description = "Only return issues created on or before this date-time.")
+    @PluginProperty(group = "advanced")
+    private Property<ZonedDateTime> createdBefore;
+
+    @Schema(title = "Updated after", description = "Only return issues updated on or after this date-time.")
+    @PluginProperty(group = "advanced")
+    private Property<ZonedDateTime> updatedAfter;
+
+    @Schema(title = "Updated before", description = "Only return issues updated on or before this date-time.")
+    @PluginProperty(group = "advanced")
+    private Property<ZonedDateTime> updatedBefore;
+
+    @Schema(title = "Assignee ID", description = "Only return issues assigned to this user ID; `None` and `Any` are also accepted by GitLab.")
+    @PluginProperty(group = "advanced")
+    private Property<String> assigneeId;
+
+    @Schema(title = "Author ID", description = "Only return issues created by this user ID.")
+    @PluginProperty(group = "advanced")
+    private Property<Integer> authorId;
+
+    @Schema(title = "Milestone", description = "Milestone title to filter by; `None`, `Any`, `Upcoming` and `Started` are also accepted by GitLab.")
+    @PluginProperty(group = "advanced")
+    private Property<String> milestone;
+
+    @Schema(title = "Issue IIDs", description = "Only return the issues having the given internal IDs.")
+    @PluginProperty(group = "advanced")
+    private Property<List<Integer>> iids;
+
+    @Schema(title = "Labels to exclude", description = "Issues carrying any of these labels are excluded, sent as `not[labels]`.")
+    @PluginProperty(group = "advanced")
+    private Property<List<String>> notLabels;
+
+    @Schema(title = "Scope", description = "Return issues for the given scope: `created_by_me`, `assigned_to_me`, or `all`.")
+    @PluginProperty(group = "advanced")
+    private Property<String> scope;
+
+    @Schema(title = "Order by", description = "Field used to order results, e.g. `created_at`, `updated_at`, `priority`, `due_date`, `label_priority`.")
+    @PluginProperty(group = "advanced")
+    private Property<String> orderBy;
+
+    @Schema(title = "Sort direction", description = "Sort order: `asc` or `desc`.")
+    @PluginProperty(group = "advanced")
+    private Property<String> sort;
+
+    @Schema(title = "Page size", description = "Number of issues per page, up to 100. GitLab defaults to 20; exports default to 100.")
+    @PluginProperty(group = "advanced")
+    private Property<Integer> perPage;
+
+    @Schema(
+        title = "Only count matching issues",
+        description = "When `true`, a single call to the `issues_statistics` endpoint returns the number of matching issues per state (`all`, `opened`, `closed`) without downloading any issue; `count` holds the value for the requested `state`. Sorting, paging and export options are ignored."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> countOnly = Property.ofValue(false);
+
+    @Schema(
+        title = "Answer from a local issue mirror",
+        description = "When `true`, the project's issues are mirrored into the namespace KV store and `search`, `state` and `labels` are evaluated locally against an inverted index over title, description and labels, instead of calling GitLab's search on every run. The mirror is synced incrementally with `updated_after` whenever it is older than `mirrorMaxStaleness`, and only keeps a compact record of each issue (`id`, `iid`, `project_id`, `title`, `state`, `labels`, `author.username`, `web_url`, `created_at`, `updated_at` and `closed_at`) plus its search tokens, split into KV entries of 1000 issues so that a sync only rewrites the entries it changed. Results contain those fields only. Other filters and `perPage` are not supported in this mode, and deleted issues are not removed from the mirror."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> mirror = Property.ofValue(false);
+
+    @Schema(
+        title = "Maximum mirror staleness",
+        description = "Results served from the mirror reflect GitLab as of at most this duration ago; an incremental sync runs first when the last sync is older."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> mirrorMaxStaleness = Property.ofValue(Duration.ofMinutes(5));
+
+    @Schema(
+        title = "Export format",
+        description = "When set, every page of results is streamed to a file in internal storage (ION or CSV) instead of being returned in the output, keeping memory bounded for large projects. Nested fields are flattened into dotted columns such as `author.username`."
+    )
+    @PluginProperty(group = "processing")
+    private Property<ExportFormat> exportFormat;
+
+    @Schema(
+        title = "Exported columns",
+        description = "Dotted field paths to keep in the export, in order (e.g. `iid`, `author.username`, `milestone.title`); a CSV export with columns always starts with their header, even when nothing matches. When not set, CSV exports use the union of the columns of all issues, and ION exports keep every field of each issue."
+    )
+    @PluginProperty(group = "processing")
+    private Property<List<String>> columns;
+
+    @Schema(
+        title = "Returned fields",
+        description = "Dotted field paths to keep in `issues` (e.g. `iid`, `title`, `author.username`, `assignees.username`), keeping their nested structure. " +
+            "The projection is applied to each page once it is parsed, so descriptions, links and unused user fields are left out of the task output and the execution state; it does not reduce what is downloaded or briefly held in memory for the page. All fields are returned when not set; use `columns` for exports."
+    )
+    @PluginProperty(group = "processing")
+    private Property<List<String>> fields;
+
     @Override
     public Output run(RunContext runContext) throws Exception {
-        try (HttpClient client = httpClient(runContext)) {
+        return traceTask(runContext, () -> {
+            try (HttpClient client = httpClient(runContext)) {
 
-            // Build the query params
-            List<String> params = new ArrayList<>();
-            if (this.search != null) {
-                String rSearch = runContext.render(this.search).as(String.class).orElseThrow();
-                params.add("search=" + URLEncoder.encode(rSearch, StandardCharsets.UTF_8));
-            }
-            String renderedState = runContext.render(this.state).as(String.class).orElse("opened");
-            params.add("state=" + renderedState);
-            if (this.labels != null) {
-                List<String> renderedLabels = runContext.render(this.labels).asList(String.class);
-                String labelStr = String.join(",", renderedLabels);
-                params.add("labels=" + URLEncoder.encode(labelStr, StandardCharsets.UTF_8));
+                ExportFormat rExportFormat = renderOrNull(this.exportFormat, ExportFormat.class, runContext);
+                Integer rPerPage = renderOrNull(this.perPage, Integer.class, runContext);
+                if (rPerPage == null && rExportFormat != null) {
+                    rPerPage = 100;
+                }
+
+                String rState = runContext.render(this.state).as(String.class).orElse("opened");
+
+                boolean rCountOnly = runContext.render(this.countOnly).as(Boolean.class).orElse(false);
+
+                if (runContext.render(this.mirror).as(Boolean.class).orElse(false)) {
+                    return fromMirror(client, rState, rCountOnly, rExportFormat, runContext);
+                }
+
+                if (rCountOnly) {
+                    return count(client, rState, runContext);
+                }
+
+                QueryParameters query = filters(runContext)
+                    .add("state", rState)
+                    .add("order_by", renderOrNull(this.orderBy, String.class, runContext))
+                    .add("sort", renderOrNull(this.sort, String.class, runContext))
+                    .add("per_page", rPerPage);
+
+                String endpoint = buildApiEndpoint("issues", runContext) + query;
+
+                if (rExportFormat != null) {
+                    List<String> rColumns = renderListOrNull(this.columns, String.class, runContext);
+                    try (ExportWriter writer = ExportWriter.of(runContext, rExportFormat, rColumns)) {
+                        paginate(client, endpoint, runContext, page -> {
+                            for (Map<String, Object> issue : page) {
+                                writer.write(issue);
+                            }
+                            return true;
+                        });
+
+                        URI uri = writer.store();
+                        return Output.builder()
+                            .uri(uri)
+                            .count((int) writer.count())
+                            .statusCode(200)
+                            .build();
+                    }
+                }
+
+                // Create GET request
+                HttpRequest request = authenticatedRequestBuilder(endpoint, runContext)
+                    .method("GET")
+                    .build();
+
+                HttpResponse<List> response = send(client, request, List.class, runContext);
+                List<Map<String, Object>> issues = project(response.getBody(), runContext);
+
+                return Output.builder()
+                    .issues(issues)
+                    .count(issues.size())
+                    .statusCode(response.getStatus().getCode())
+                    .build();
             }
+        });
+    }
 
-            String queryStr = "?" + String.join("&", params);
-            String endpoint = buildApiEndpoint("issues", runContext) + queryStr;
+    private QueryParameters filters(RunContext runContext) throws IllegalVariableEvaluationException {
+        return new QueryParameters()
+            .add("search", renderOrNull(this.search, String.class, runContext))
+            .addJoined("labels", renderListOrNull(this.labels, String.class, runContext))
+            .add("created_after", renderOrNull(this.createdAfter, ZonedDateTime.class, runContext))
+            .add("created_before", renderOrNull(this.createdBefore, ZonedDateTime.class, runContext))
+            .add("updated_after", renderOrNull(this.updatedAfter, ZonedDateTime.class, runContext))
+            .add("updated_before", renderOrNull(this.updatedBefore, ZonedDateTime.class, runContext))
+            .add("assignee_id", renderOrNull(this.assigneeId, String.class, runContext))
+            .add("author_id", renderOrNull(this.authorId, Integer.class, runContext))
+            .add("milestone", renderOrNull(this.milestone, String.class, runContext))
+            .addArray("iids", renderListOrNull(this.iids, Integer.class, runContext))
+            .addJoined("not[labels]", renderListOrNull(this.notLabels, String.class, runContext))
+            .add("scope", renderOrNull(this.scope, String.class, runContext));
+    }
 
-            // Create GET request
-            HttpRequest request = authenticatedRequestBuilder(endpoint, runContext)
-                .method("GET")
-                .build();
+    @SuppressWarnings("unchecked")
+    private Output count(HttpClient client, String state, RunContext runContext) throws Exception {
+        // issues_statistics returns the per-state counters for the same filters without any issue body
+        String endpoint = buildApiEndpoint("issues_statistics", runContext) + filters(runContext);
 
-            HttpResponse<List> response = client.request(request, List.class);
-            List<Map<String, Object>> issues = response.getBody();
+        HttpRequest request = authenticatedRequestBuilder(endpoint, runContext)
+            .method("GET")
+            .build();
+
+        HttpResponse<Map> response = send(client, request, Map.class, runContext);
+        Map<String, Object> statistics = (Map<String, Object>) response.getBody().get("statistics");
+        Map<String, Object> rawCounts = statistics == null ? null : (Map<String, Object>) statistics.get("counts");
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        if (rawCounts != null) {
+            rawCounts.forEach((key, value) -> counts.put(key, value instanceof Number number ? number.intValue() : null));
+        }
+
+        return Output.builder()
+            .count(counts.get(state))
+            .counts(counts)
+            .statusCode(response.getStatus().getCode())
+            .build();
+    }
+
+    private Output fromMirror(HttpClient client, String state, boolean countOnly, ExportFormat exportFormat, RunContext runContext) throws Exception {
+        if (this.createdAfter != null || this.createdBefore != null || this.updatedAfter != null || this.updatedBefore != null ||
+            this.assigneeId != null || this.authorId != null || this.milestone != null || this.iids != null ||
+            this.notLabels != null || this.scope != null || this.orderBy != null || this.sort != null || this.perPage != null) {
+            throw new IllegalArgumentException("Only `search`, `state` and `labels` filters are supported when `mirror` is enabled");
+        }
+
+        String baseUrl = runContext.render(this.getUrl()).as(String.class).orElse("https://gitlab.com");
+        String rApiPath = runContext.render(this.getApiPath()).as(String.class).orElse("/api/v4/projects");
+        String rProjectId = runContext.render(this.getProjectId()).as(String.class).orElseThrow();
+        String rToken = runContext.render(this.getToken()).as(String.class).orElseThrow();
+        // the token is part of the key so that a mirror synced with one token's visibility is never served to another token
+        String key = ("gitlab_issues_mirror_" + URI.create(baseUrl).getHost() + "_" + rApiPath + "_" + rProjectId + "_" + sha256(rToken).substring(0, 16))
+            .replaceAll("[^a-zA-Z0-9._-]", "_");
+
+        KVStore store = runContext.namespaceKv(runContext.flowInfo().namespace());
+        IssueMirror issueMirror = IssueMirror.load(store, key);
+
+        Duration maxStaleness = runContext.render(this.mirrorMaxStaleness).as(Duration.class).orElse(Duration.ofMinutes(5));
+        Instant now = Instant.now();
+        if (issueMirror.isStale(maxStaleness, now)) {
+            QueryParameters query = new QueryParameters()
+                .add("state", "all")
+                .add("updated_after", issueMirror.getCursor())
+                .add("order_by", "updated_at")
+                .add("sort", "asc")
+                .add("per_page", 100);
+
+            paginate(client, buildApiEndpoint("issues", runContext) + query, runContext, page -> {
+                page.forEach(issueMirror::upsert);
+                return true;
+            });
+
+            issueMirror.markSynced(now);
+            issueMirror.save(store, key);
+            runContext.logger().debug("Issue mirror '{}' synced, {} issues", key, issueMirror.size());
+        }
+
+        String rSearch = renderOrNull(this.search, String.class, runContext);
+        List<String> rLabels = renderListOrNull(this.labels, String.class, runContext);
+
+        if (countOnly) {
+            List<Map<String, Object>> all = issueMirror.query(rSearch, "all", rLabels);
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            counts.put("all", all.size());
+            counts.put("closed", (int) all.stream().filter(issue -> "closed".equals(issue.get("state"))).count());
+            counts.put("opened", (int) all.stream().filter(issue -> "opened".equals(issue.get("state"))).count());
 
             return Output.builder()
-                .issues(issues)
-                .count(issues.size())
-                .statusCode(response.getStatus().getCode())
+                .count(counts.get(state))
+                .counts(counts)
+                .mirrorSyncedAt(issueMirror.getSyncedAt())
                 .build();
         }
+
+        List<Map<String, Object>> issues = issueMirror.query(rSearch, state, rLabels);
+
+        if (exportFormat != null) {
+            try (ExportWriter writer = ExportWriter.of(runContext, exportFormat, renderListOrNull(this.columns, String.class, runContext))) {
+                for (Map<String, Object> issue : issues) {
+                    writer.write(issue);
+                }
+
+                return Output.builder()
+                    .uri(writer.store())
+                    .count((int) writer.count())
+                    .mirrorSyncedAt(issueMirror.getSyncedAt())
+                    .build();
+            }
+        }
+
+        return Output.builder()
+            .issues(project(issues, runContext))
+            .count(issues.size())
+            .mirrorSyncedAt(issueMirror.getSyncedAt())
+            .build();
+    }
+
+    private List<Map<String, Object>> project(List<Map<String, Object>> issues, RunContext runContext) throws IllegalVariableEvaluationException {
+        FieldProjection projection = FieldProjection.of(renderListOrNull(this.fields, String.class, runContext));
+        return projection == null ? issues : projection.apply(issues);
     }
 
     @Builder
@@ -132,9 +435,18 @@ public class Search extends AbstractGitLabTask implements RunnableTask<Search.Ou
         @Schema(title = "Found issues")
         private List<Map<String, Object>> issues;
 
-        @Schema(title = "Number of issues found", description = "Count of issues returned by the request.")
+        @Schema(title = "Number of issues found", description = "Count of issues returned by the request, exported to the file when `exportFormat` is set, or matching the filters when `countOnly` is set.")
         private Integer count;
 
+        @Schema(title = "URI of the exported file", description = "Set only when `exportFormat` is used.")
+        private URI uri;
+
+        @Schema(title = "Mirror sync time", description = "Time of the last sync of the local mirror the results were answered from; set only when `mirror` is used.")
+        private Instant mirrorSyncedAt;
+
+        @Schema(title = "Number of issues per state", description = "Exact counters keyed by `all`, `opened` and `closed`; set only when `countOnly` is used.")
+        private Map<String, Integer> counts;
+
         @Schema(title = "HTTP status code", description = "HTTP response code from the GitLab API.")
         private Integer statusCode;
     }
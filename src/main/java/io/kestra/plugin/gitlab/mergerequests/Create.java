@@ -96,40 +96,42 @@ public class Create extends AbstractGitLabTask implements RunnableTask<Create.Ou
 
     @Override
     public Output run(RunContext runContext) throws Exception {
-        try (HttpClient client = httpClient(runContext)) {
+        return traceTask(runContext, () -> {
+            try (HttpClient client = httpClient(runContext)) {
 
-            Map<String, Object> body = new HashMap<>();
+                Map<String, Object> body = new HashMap<>();
 
-            // Required fields for  merge request creation
-            body.put("title", runContext.render(this.title).as(String.class).orElseThrow());
+                // Required fields for  merge request creation
+                body.put("title", runContext.render(this.title).as(String.class).orElseThrow());
 
-            body.put("source_branch", runContext.render(this.sourceBranch).as(String.class).orElseThrow());
+                body.put("source_branch", runContext.render(this.sourceBranch).as(String.class).orElseThrow());
 
-            body.put("target_branch", runContext.render(this.targetBranch).as(String.class).orElseThrow());
+                body.put("target_branch", runContext.render(this.targetBranch).as(String.class).orElseThrow());
 
-            // Optional fields
-            if (this.mergeRequestDescription != null) {
-                body.put("description", runContext.render(this.mergeRequestDescription).as(String.class).orElseThrow());
-            }
+                // Optional fields
+                if (this.mergeRequestDescription != null) {
+                    body.put("description", runContext.render(this.mergeRequestDescription).as(String.class).orElseThrow());
+                }
 
-            ObjectMapper mapper = new ObjectMapper();
-            String jsonBody = mapper.writeValueAsString(body);
-            String endpoint = buildApiEndpoint("merge_requests", runContext);
+                ObjectMapper mapper = new ObjectMapper();
+                String jsonBody = mapper.writeValueAsString(body);
+                String endpoint = buildApiEndpoint("merge_requests", runContext);
 
-            HttpRequest request = authenticatedRequestBuilder(endpoint, runContext)
-                .method("POST")
-                .body(new HttpRequest.StringRequestBody("application/json", StandardCharsets.UTF_8, jsonBody))
-                .build();
+                HttpRequest request = authenticatedRequestBuilder(endpoint, runContext)
+                    .method("POST")
+                    .body(new HttpRequest.StringRequestBody("application/json", StandardCharsets.UTF_8, jsonBody))
+                    .build();
 
-            HttpResponse<Map> response = client.request(request, Map.class);
-            Map<String, Object> result = response.getBody();
+                HttpResponse<Map> response = send(client, request, Map.class, runContext);
+                Map<String, Object> result = response.getBody();
 
-            return Output.builder()
-                .mergeReqID(result.get("id").toString())
-                .webUrl(result.get("web_url").toString())
-                .statusCode(response.getStatus().getCode())
-                .build();
-        }
+                return Output.builder()
+                    .mergeReqID(result.get("id").toString())
+                    .webUrl(result.get("web_url").toString())
+                    .statusCode(response.getStatus().getCode())
+                    .build();
+            }
+        });
     }
 
     @Builder
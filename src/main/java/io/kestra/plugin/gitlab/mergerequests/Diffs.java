@@ -0,0 +1,233 @@
+package io.kestra.plugin.gitlab.mergerequests;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.kestra.plugin.gitlab.AbstractGitLabTask;
+import io.kestra.plugin.gitlab.QueryParameters;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Fetch merge request diffs",
+    description = "Pages through the file diffs of a merge request and streams each one to an ION file in internal storage, so merge requests touching thousands of files are processed with bounded memory. " +
+        "Diffs can be filtered by path glob and truncated above a size limit. With `skipUnchanged`, the merge request versions are fetched and the latest one is compared with the one processed by the previous run and nothing is fetched when it did not change."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Fetch the Java diffs of a merge request for an automated review, skipping unchanged merge requests.",
+            full = true,
+            code = """
+                id: gitlab_review_bot
+                namespace: company.team
+
+                inputs:
+                  - id: mr
+                    type: INT
+
+                tasks:
+                  - id: diffs
+                    type: io.kestra.plugin.gitlab.mergerequests.Diffs
+                    token: "{{ secret('GITLAB_TOKEN') }}"
+                    projectId: "123"
+                    mergeRequestIid: "{{ inputs.mr }}"
+                    paths:
+                      - "**/*.java"
+                    maxDiffSize: 100000
+                    skipUnchanged: true
+                """
+        )
+    }
+)
+public class Diffs extends AbstractGitLabTask implements RunnableTask<Diffs.Output> {
+
+    @Schema(title = "Merge request IID", description = "Internal ID of the merge request within the project.")
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<Integer> mergeRequestIid;
+
+    @Schema(title = "Path filters", description = "Glob patterns (e.g. `src/**/*.java`); a diff is kept when its new or old path matches any of them. `*` does not cross directories, and a leading `**/` also matches files at the repository root, so `**/*.java` keeps `App.java` and `src/main/App.java`.")
+    @PluginProperty(group = "processing")
+    private Property<List<String>> paths;
+
+    @Schema(title = "Maximum diff size", description = "Diffs longer than this number of characters are written without their `diff` content and flagged with `truncated: true`.")
+    @PluginProperty(group = "processing")
+    private Property<Integer> maxDiffSize;
+
+    @Schema(
+        title = "Skip unchanged merge requests",
+        description = "When `true`, the head commit of the latest merge request version is stored in the namespace KV store after each run, and later runs of the same flow task return `skipped: true` without fetching diffs while it is unchanged."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> skipUnchanged = Property.ofValue(false);
+
+    @Schema(title = "Page size", description = "Number of file diffs requested per page, up to 100.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> perPage = Property.ofValue(20);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Output run(RunContext runContext) throws Exception {
+        return traceTask(runContext, () -> {
+            try (HttpClient client = httpClient(runContext)) {
+                Integer rIid = runContext.render(this.mergeRequestIid).as(Integer.class).orElseThrow();
+                String endpoint = buildApiEndpoint("merge_requests/" + rIid, runContext);
+
+                boolean rSkipUnchanged = runContext.render(this.skipUnchanged).as(Boolean.class).orElse(false);
+                KVStore store = null;
+                String stateKey = null;
+                String headCommitSha = null;
+                if (rSkipUnchanged) {
+                    HttpRequest versionsRequest = authenticatedRequestBuilder(endpoint + "/versions", runContext)
+                        .method("GET")
+                        .build();
+                    HttpResponse<List> versions = send(client, versionsRequest, List.class, runContext);
+                    List<Map<String, Object>> versionList = versions.getBody();
+                    headCommitSha = versionList == null || versionList.isEmpty() ? null : (String) versionList.getFirst().get("head_commit_sha");
+
+                    store = runContext.namespaceKv(runContext.flowInfo().namespace());
+                    stateKey = ("gitlab_mr_diffs_" + runContext.flowInfo().id() + "_" + this.getId() + "_" +
+                        runContext.render(this.getProjectId()).as(String.class).orElseThrow() + "_" + rIid).replaceAll("[^a-zA-Z0-9._-]", "_");
+
+                    String previous = store.getValue(stateKey).map(KVValue::value).map(Object::toString).orElse(null);
+                    if (headCommitSha != null && headCommitSha.equals(previous)) {
+                        runContext.logger().info("Merge request !{} unchanged since head commit {}, skipping", rIid, headCommitSha);
+                        return Output.builder()
+                            .skipped(true)
+                            .count(0L)
+                            .headCommitSha(headCommitSha)
+                            .build();
+                    }
+                }
+
+                List<PathMatcher> matchers = this.paths == null ? null : pathMatchers(runContext.render(this.paths).asList(String.class));
+                Integer rMaxDiffSize = renderOrNull(this.maxDiffSize, Integer.class, runContext);
+
+                QueryParameters query = new QueryParameters()
+                    .add("per_page", runContext.render(this.perPage).as(Integer.class).orElse(20));
+
+                File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+                AtomicLong count = new AtomicLong();
+                AtomicLong truncated = new AtomicLong();
+
+                try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(tempFile.toPath()))) {
+                    paginate(client, endpoint + "/diffs" + query, runContext, page -> {
+                        for (Map<String, Object> diff : page) {
+                            if (matchers != null && !matches(matchers, diff)) {
+                                continue;
+                            }
+
+                            Map<String, Object> row = diff;
+                            if (rMaxDiffSize != null && diff.get("diff") instanceof String content && content.length() > rMaxDiffSize) {
+                                row = new LinkedHashMap<>(diff);
+                                row.put("diff", null);
+                                row.put("truncated", true);
+                                truncated.incrementAndGet();
+                            }
+
+                            FileSerde.write(output, row);
+                            count.incrementAndGet();
+                        }
+                        return true;
+                    });
+                }
+
+                URI uri = runContext.storage().putFile(tempFile);
+                runContext.metric(Counter.of("records", count.get()));
+                runContext.metric(Counter.of("truncated", truncated.get()));
+
+                if (store != null && headCommitSha != null) {
+                    store.put(stateKey, new KVValueAndMetadata(new KVMetadata("Last processed GitLab merge request version", (Duration) null), headCommitSha));
+                }
+
+                return Output.builder()
+                    .uri(uri)
+                    .count(count.get())
+                    .skipped(false)
+                    .headCommitSha(headCommitSha)
+                    .build();
+            }
+        });
+    }
+
+    private static List<PathMatcher> pathMatchers(List<String> globs) {
+        // a leading **/ requires at least one directory in Java globs, so the rest of the pattern is also tried on its
+        // own to keep files at the repository root
+        List<PathMatcher> matchers = new ArrayList<>();
+        for (String glob : globs) {
+            matchers.add(FileSystems.getDefault().getPathMatcher("glob:" + glob));
+            if (glob.startsWith("**/")) {
+                matchers.add(FileSystems.getDefault().getPathMatcher("glob:" + glob.substring(3)));
+            }
+        }
+        return matchers;
+    }
+
+    private static boolean matches(List<PathMatcher> matchers, Map<String, Object> diff) {
+        for (String key : List.of("new_path", "old_path")) {
+            if (diff.get(key) instanceof String value) {
+                Path path = Path.of(value);
+                for (PathMatcher matcher : matchers) {
+                    if (matcher.matches(path)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "URI of the diffs file", description = "ION file with one GitLab file diff per line; not set when the merge request was skipped.")
+        private URI uri;
+
+        @Schema(title = "Number of diffs written")
+        private Long count;
+
+        @Schema(title = "Skipped", description = "`true` when `skipUnchanged` is set and the merge request did not change since the previous run.")
+        private Boolean skipped;
+
+        @Schema(title = "Head commit SHA", description = "Head commit of the latest merge request version; set only when `skipUnchanged` is enabled.")
+        private String headCommitSha;
+    }
+}
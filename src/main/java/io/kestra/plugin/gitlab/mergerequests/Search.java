@@ -0,0 +1,288 @@
+package io.kestra.plugin.gitlab.mergerequests;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.gitlab.AbstractGitLabTask;
+import io.kestra.plugin.gitlab.ExportFormat;
+import io.kestra.plugin.gitlab.ExportWriter;
+import io.kestra.plugin.gitlab.FieldProjection;
+import io.kestra.plugin.gitlab.QueryParameters;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Search merge requests in a project",
+    description = "Queries GitLab merge requests for the target project via the REST API. Requires `projectId` and `token`; `state` defaults to `opened`. Results can be returned in the output, limited to one page of up to `perPage` merge requests, or streamed page by page to a CSV or ION file with `exportFormat`, and optionally enriched with approvals, head pipeline and change counts."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Search for open merge requests targeting the main branch.",
+            full = true,
+            code = """
+                id: gitlab_search_merge_requests
+                namespace: company.team
+
+                tasks:
+                  - id: search_merge_requests
+                    type: io.kestra.plugin.gitlab.mergerequests.Search
+                    token: "{{ secret('GITLAB_TOKEN') }}"
+                    projectId: "123"
+                    state: "opened"
+                    targetBranch: "main"
+                """
+        ),
+        @Example(
+            title = "Export all merged merge requests to a CSV file with selected columns.",
+            full = true,
+            code = """
+                id: gitlab_export_merge_requests
+                namespace: company.team
+
+                tasks:
+                  - id: export_merge_requests
+                    type: io.kestra.plugin.gitlab.mergerequests.Search
+                    token: "{{ secret('GITLAB_TOKEN') }}"
+                    projectId: "123"
+                    state: "merged"
+                    exportFormat: CSV
+                    columns:
+                      - iid
+                      - title
+                      - author.username
+                      - merged_at
+                """
+        ),
+        @Example(
+            title = "List open merge requests with their approvals and head pipeline status for a review SLA report.",
+            full = true,
+            code = """
+                id: gitlab_review_sla
+                namespace: company.team
+
+                tasks:
+                  - id: open_merge_requests
+                    type: io.kestra.plugin.gitlab.mergerequests.Search
+                    token: "{{ secret('GITLAB_TOKEN') }}"
+                    projectId: "123"
+                    enrich: true
+                    enrichConcurrency: 10
+                    exportFormat: ION
+                """
+        )
+    }
+)
+public class Search extends AbstractGitLabTask implements RunnableTask<Search.Output> {
+
+    @Schema(title = "Search query", description = "Free-text query matched against merge request title and description.")
+    @PluginProperty(group = "processing")
+    private Property<String> search;
+
+    @Schema(title = "Merge request state", description = "Filter by state: opened, closed, locked, merged, or all; defaults to opened when not provided.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<String> state = Property.ofValue("opened");
+
+    @Schema(title = "Labels to filter by", description = "Labels rendered from the context and comma-joined for the GitLab API.")
+    @PluginProperty(group = "advanced")
+    private Property<List<String>> labels;
+
+    @Schema(title = "Source branch", description = "Only return merge requests from this source branch.")
+    @PluginProperty(group = "advanced")
+    private Property<String> sourceBranch;
+
+    @Schema(title = "Target branch", description = "Only return merge requests targeting this branch.")
+    @PluginProperty(group = "advanced")
+    private Property<String> targetBranch;
+
+    @Schema(title = "Page size", description = "Number of merge requests per page, up to 100. GitLab defaults to 20; exports default to 100. Without `exportFormat`, only this first page is returned.")
+    @PluginProperty(group = "advanced")
+    private Property<Integer> perPage;
+
+    @Schema(
+        title = "Enrich merge requests",
+        description = "When `true`, each merge request is completed with `approvals` (approved, approvals_required, approvals_left, approved_by), `head_pipeline` and `changes_count`. The extra calls run concurrently on the task's HTTP client, page by page, bounded by `enrichConcurrency`. " +
+            "Without `exportFormat`, only the first page is returned and enriched (20 merge requests unless `perPage` is raised, up to 100); use `exportFormat` to enrich every matching merge request."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> enrich = Property.ofValue(false);
+
+    @Schema(title = "Enrichment concurrency", description = "Maximum number of merge requests enriched in parallel.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> enrichConcurrency = Property.ofValue(8);
+
+    @Schema(
+        title = "Export format",
+        description = "When set, every page of results is streamed to a file in internal storage (ION or CSV) instead of being returned in the output, keeping memory bounded for large projects. Nested fields are flattened into dotted columns such as `author.username`."
+    )
+    @PluginProperty(group = "processing")
+    private Property<ExportFormat> exportFormat;
+
+    @Schema(
+        title = "Exported columns",
+        description = "Dotted field paths to keep in the export, in order (e.g. `iid`, `author.username`, `milestone.title`); a CSV export with columns always starts with their header, even when nothing matches. When not set, CSV exports use the union of the columns of all merge requests, and ION exports keep every field of each merge request."
+    )
+    @PluginProperty(group = "processing")
+    private Property<List<String>> columns;
+
+    @Schema(
+        title = "Returned fields",
+        description = "Dotted field paths to keep in `mergeRequests` (e.g. `iid`, `title`, `author.username`, `approvals.approved`), keeping their nested structure. " +
+            "The projection is applied to each page once it is parsed and enriched, so it slims the task output and the execution state; it does not reduce what is downloaded or briefly held in memory for the page. All fields are returned when not set; use `columns` for exports."
+    )
+    @PluginProperty(group = "processing")
+    private Property<List<String>> fields;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        return traceTask(runContext, () -> {
+            try (HttpClient client = httpClient(runContext)) {
+
+                ExportFormat rExportFormat = renderOrNull(this.exportFormat, ExportFormat.class, runContext);
+                Integer rPerPage = renderOrNull(this.perPage, Integer.class, runContext);
+                if (rPerPage == null && rExportFormat != null) {
+                    rPerPage = 100;
+                }
+
+                QueryParameters query = new QueryParameters()
+                    .add("search", renderOrNull(this.search, String.class, runContext))
+                    .add("state", runContext.render(this.state).as(String.class).orElse("opened"))
+                    .addJoined("labels", renderListOrNull(this.labels, String.class, runContext))
+                    .add("source_branch", renderOrNull(this.sourceBranch, String.class, runContext))
+                    .add("target_branch", renderOrNull(this.targetBranch, String.class, runContext))
+                    .add("per_page", rPerPage);
+
+                String endpoint = buildApiEndpoint("merge_requests", runContext) + query;
+
+                ExecutorService executor = runContext.render(this.enrich).as(Boolean.class).orElse(false) ?
+                    boundedExecutor(runContext.render(this.enrichConcurrency).as(Integer.class).orElse(8)) :
+                    null;
+
+                try {
+                    if (rExportFormat != null) {
+                        List<String> rColumns = renderListOrNull(this.columns, String.class, runContext);
+                        try (ExportWriter writer = ExportWriter.of(runContext, rExportFormat, rColumns)) {
+                            paginate(client, endpoint, runContext, page -> {
+                                for (Map<String, Object> mergeRequest : enrich(client, executor, page, runContext)) {
+                                    writer.write(mergeRequest);
+                                }
+                                return true;
+                            });
+
+                            URI uri = writer.store();
+                            return Output.builder()
+                                .uri(uri)
+                                .count((int) writer.count())
+                                .statusCode(200)
+                                .build();
+                        }
+                    }
+
+                    HttpRequest request = authenticatedRequestBuilder(endpoint, runContext)
+                        .method("GET")
+                        .build();
+
+                    HttpResponse<List> response = send(client, request, List.class, runContext);
+                    List<Map<String, Object>> mergeRequests = enrich(client, executor, response.getBody(), runContext);
+                    FieldProjection projection = FieldProjection.of(renderListOrNull(this.fields, String.class, runContext));
+                    if (projection != null) {
+                        mergeRequests = projection.apply(mergeRequests);
+                    }
+
+                    return Output.builder()
+                        .mergeRequests(mergeRequests)
+                        .count(mergeRequests.size())
+                        .statusCode(response.getStatus().getCode())
+                        .build();
+                } finally {
+                    if (executor != null) {
+                        executor.shutdownNow();
+                    }
+                }
+            }
+        });
+    }
+
+    private List<Map<String, Object>> enrich(HttpClient client, ExecutorService executor, List<Map<String, Object>> mergeRequests, RunContext runContext) throws Exception {
+        if (executor == null) {
+            return mergeRequests;
+        }
+
+        String endpoint = buildApiEndpoint("merge_requests/", runContext);
+        List<Future<Map<String, Object>>> futures = new ArrayList<>(mergeRequests.size());
+        for (Map<String, Object> mergeRequest : mergeRequests) {
+            futures.add(executor.submit(() -> enrich(client, endpoint + mergeRequest.get("iid"), mergeRequest, runContext)));
+        }
+
+        return awaitAll(futures);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> enrich(HttpClient client, String endpoint, Map<String, Object> mergeRequest, RunContext runContext) throws Exception {
+        HttpResponse<Map> detail = send(client, authenticatedRequestBuilder(endpoint, runContext).method("GET").build(), Map.class, runContext);
+        HttpResponse<Map> approvals = send(client, authenticatedRequestBuilder(endpoint + "/approvals", runContext).method("GET").build(), Map.class, runContext);
+
+        // copy: list responses may be shared with coalesced requests
+        Map<String, Object> enriched = new LinkedHashMap<>(mergeRequest);
+        enriched.put("head_pipeline", detail.getBody().get("head_pipeline"));
+        enriched.put("changes_count", detail.getBody().get("changes_count"));
+
+        Map<String, Object> approvalSummary = new LinkedHashMap<>();
+        approvalSummary.put("approved", approvals.getBody().get("approved"));
+        approvalSummary.put("approvals_required", approvals.getBody().get("approvals_required"));
+        approvalSummary.put("approvals_left", approvals.getBody().get("approvals_left"));
+
+        List<String> approvedBy = new ArrayList<>();
+        if (approvals.getBody().get("approved_by") instanceof List<?> approvers) {
+            for (Object approver : approvers) {
+                if (approver instanceof Map<?, ?> entry && entry.get("user") instanceof Map<?, ?> user) {
+                    approvedBy.add(String.valueOf(user.get("username")));
+                }
+            }
+        }
+        approvalSummary.put("approved_by", approvedBy);
+        enriched.put("approvals", approvalSummary);
+
+        return enriched;
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Found merge requests", description = "A single page of merge requests (see `perPage`); not set when `exportFormat` is used.")
+        private List<Map<String, Object>> mergeRequests;
+
+        @Schema(title = "Number of merge requests found", description = "Count of merge requests returned in the single requested page, or exported to the file when `exportFormat` is set.")
+        private Integer count;
+
+        @Schema(title = "URI of the exported file", description = "Set only when `exportFormat` is used.")
+        private URI uri;
+
+        @Schema(title = "HTTP status code", description = "HTTP response code from the GitLab API.")
+        private Integer statusCode;
+    }
+}
@@ -0,0 +1,335 @@
+package io.kestra.plugin.gitlab.notes;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.gitlab.AbstractGitLabTask;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Post findings as batched comments",
+    description = "Groups a list of findings, such as lint or security scanner results, by the issue or merge request they target and merges them into as few comments as possible, each at most `maxCommentSize` characters. " +
+        "Merge request findings with a `path` and `line` are posted as diff discussions on that line, one per position. " +
+        "Targets are commented concurrently up to `concurrency`, while the comments of a single target are posted one after the other in the order of their findings. " +
+        "A target that fails does not stop the others: every target is attempted, the comments posted on each one are logged, and the task then fails listing the failed targets and the note IDs already created, so they can be removed from the findings before a retry."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Post the findings of a lint task on the merge request that triggered the pipeline.",
+            full = true,
+            code = """
+                id: gitlab_lint_report
+                namespace: company.team
+
+                inputs:
+                  - id: mr
+                    type: INT
+
+                tasks:
+                  - id: comment
+                    type: io.kestra.plugin.gitlab.notes.BulkCreate
+                    token: "{{ secret('GITLAB_TOKEN') }}"
+                    projectId: "123"
+                    header: "### Lint findings"
+                    findings:
+                      - targetType: MERGE_REQUEST
+                        iid: "{{ inputs.mr }}"
+                        body: "`src/App.java:12` unused import `java.util.List`"
+                      - targetType: MERGE_REQUEST
+                        iid: "{{ inputs.mr }}"
+                        path: src/App.java
+                        line: 40
+                        body: "Possible null dereference of `user`"
+                """
+        )
+    }
+)
+public class BulkCreate extends AbstractGitLabTask implements RunnableTask<BulkCreate.Output> {
+    private static final String SEPARATOR = "\n\n";
+
+    @Schema(
+        title = "Findings to post",
+        description = "List of findings, each with a `targetType` (`ISSUE` or `MERGE_REQUEST`), the target `iid` and a Markdown `body`. " +
+            "Merge request findings may also set `path` and `line` to be posted as a diff discussion on the new version of that line."
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<List<Finding>> findings;
+
+    @Schema(title = "Comment header", description = "Markdown prepended to every comment, e.g. the name of the tool that produced the findings.")
+    @PluginProperty(group = "main")
+    private Property<String> header;
+
+    @Schema(title = "Maximum comment size", description = "Maximum number of characters of a merged comment; a finding longer than this limit is posted on its own.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> maxCommentSize = Property.ofValue(50000);
+
+    @Schema(title = "Maximum concurrent targets", description = "Number of issues or merge requests commented in parallel.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> concurrency = Property.ofValue(4);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        return traceTask(runContext, () -> {
+            List<Finding> rFindings = runContext.render(this.findings).asList(Finding.class);
+            String rHeader = renderOrNull(this.header, String.class, runContext);
+            int rMaxCommentSize = runContext.render(this.maxCommentSize).as(Integer.class).orElse(50000);
+
+            // targets keep the order of their first finding, and findings keep their order within a target
+            Map<String, List<Finding>> targets = new LinkedHashMap<>();
+            for (Finding finding : rFindings) {
+                targets.computeIfAbsent(finding.resource(), key -> new ArrayList<>()).add(finding);
+            }
+
+            ExecutorService executor = boundedExecutor(runContext.render(this.concurrency).as(Integer.class).orElse(4));
+            // note IDs are collected as they are created, so that those of a target failing midway are still reported
+            Map<String, List<Object>> noteIds = new LinkedHashMap<>();
+            Map<String, Exception> failures = new LinkedHashMap<>();
+            try (HttpClient client = httpClient(runContext)) {
+                Map<String, Future<?>> futures = new LinkedHashMap<>();
+                for (Map.Entry<String, List<Finding>> target : targets.entrySet()) {
+                    List<Object> ids = Collections.synchronizedList(new ArrayList<>());
+                    noteIds.put(target.getKey(), ids);
+                    futures.put(target.getKey(), executor.submit(() -> {
+                        post(client, target.getKey(), target.getValue(), rHeader, rMaxCommentSize, ids, runContext);
+                        return null;
+                    }));
+                }
+
+                // unlike awaitAll, a failed target does not cancel the others, which would lose track of their comments
+                for (Map.Entry<String, Future<?>> future : futures.entrySet()) {
+                    try {
+                        future.getValue().get();
+                    } catch (ExecutionException e) {
+                        failures.put(future.getKey(), e.getCause() instanceof Exception cause ? cause : e);
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            int comments = noteIds.values().stream().mapToInt(List::size).sum();
+            runContext.metric(Counter.of("findings", rFindings.size()));
+            runContext.metric(Counter.of("comments", comments));
+
+            for (Map.Entry<String, List<Object>> target : noteIds.entrySet()) {
+                Exception failure = failures.get(target.getKey());
+                if (failure == null) {
+                    runContext.logger().info("Posted {} comment(s) on {}: {}", target.getValue().size(), target.getKey(), target.getValue());
+                } else {
+                    runContext.logger().error("Failed to comment {} after posting {} comment(s) {}: {}", target.getKey(), target.getValue().size(), target.getValue(), failure.getMessage());
+                }
+            }
+
+            if (!failures.isEmpty()) {
+                IllegalStateException exception = new IllegalStateException(failureMessage(noteIds, failures));
+                failures.values().forEach(exception::addSuppressed);
+                throw exception;
+            }
+
+            return Output.builder()
+                .findings(rFindings.size())
+                .comments(comments)
+                .noteIds(noteIds)
+                .build();
+        });
+    }
+
+    private static String failureMessage(Map<String, List<Object>> noteIds, Map<String, Exception> failures) {
+        List<String> targets = new ArrayList<>();
+        for (Map.Entry<String, List<Object>> target : noteIds.entrySet()) {
+            Exception failure = failures.get(target.getKey());
+            targets.add(target.getKey() + (failure == null ? " succeeded" : " failed (" + failure.getMessage() + ")") + " with note IDs " + target.getValue());
+        }
+
+        return "Failed to post findings on " + failures.size() + " of " + noteIds.size() + " target(s): " + String.join("; ", targets);
+    }
+
+    /**
+     * Posts the comments of a single target sequentially: merged general comments first, then one diff discussion per position.
+     * The ID of each created note or discussion is added to {@code ids} as soon as it is created.
+     */
+    private void post(HttpClient client, String resource, List<Finding> findings, String header, int maxCommentSize, List<Object> ids, RunContext runContext) throws Exception {
+        String endpoint = buildApiEndpoint(resource, runContext);
+
+        List<String> general = new ArrayList<>();
+        Map<String, List<Finding>> positioned = new LinkedHashMap<>();
+        for (Finding finding : findings) {
+            if (finding.getTargetType() == TargetType.MERGE_REQUEST && finding.getPath() != null && finding.getLine() != null) {
+                positioned.computeIfAbsent(finding.getOldPath() + ":" + finding.getPath() + ":" + finding.getLine(), key -> new ArrayList<>()).add(finding);
+            } else {
+                general.add(finding.getBody());
+            }
+        }
+
+        for (String comment : merge(general, header, maxCommentSize)) {
+            ids.add(create(client, endpoint + "/notes", Map.of("body", comment), runContext).get("id"));
+        }
+
+        if (!positioned.isEmpty()) {
+            Map<String, Object> version = latestVersion(client, endpoint, runContext);
+
+            for (List<Finding> group : positioned.values()) {
+                Finding first = group.getFirst();
+                Map<String, Object> position = new LinkedHashMap<>();
+                position.put("position_type", "text");
+                position.put("base_sha", version.get("base_commit_sha"));
+                position.put("start_sha", version.get("start_commit_sha"));
+                position.put("head_sha", version.get("head_commit_sha"));
+                position.put("new_path", first.getPath());
+                position.put("old_path", first.getOldPath() != null ? first.getOldPath() : first.getPath());
+                position.put("new_line", first.getLine());
+
+                List<String> bodies = group.stream().map(Finding::getBody).toList();
+                for (String comment : merge(bodies, header, maxCommentSize)) {
+                    Map<String, Object> discussion = create(client, endpoint + "/discussions", Map.of("body", comment, "position", position), runContext);
+                    ids.add(discussion.get("id"));
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs bodies into as few comments as possible, each starting with the header and at most {@code maxCommentSize}
+     * characters long, unless a single body already exceeds it.
+     */
+    static List<String> merge(List<String> bodies, String header, int maxCommentSize) {
+        List<String> comments = new ArrayList<>();
+        StringBuilder current = null;
+
+        for (String body : bodies) {
+            if (current != null && current.length() + SEPARATOR.length() + body.length() > maxCommentSize) {
+                comments.add(current.toString());
+                current = null;
+            }
+
+            if (current == null) {
+                current = new StringBuilder();
+                if (header != null) {
+                    current.append(header);
+                }
+            }
+
+            if (!current.isEmpty()) {
+                current.append(SEPARATOR);
+            }
+            current.append(body);
+        }
+
+        if (current != null) {
+            comments.add(current.toString());
+        }
+
+        return comments;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> latestVersion(HttpClient client, String endpoint, RunContext runContext) throws Exception {
+        HttpRequest request = authenticatedRequestBuilder(endpoint + "/versions", runContext)
+            .method("GET")
+            .build();
+
+        List<Map<String, Object>> versions = send(client, request, List.class, runContext).getBody();
+        if (versions == null || versions.isEmpty()) {
+            throw new IllegalStateException("Merge request '" + endpoint + "' has no diff version to attach discussions to");
+        }
+
+        return versions.getFirst();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> create(HttpClient client, String endpoint, Map<String, Object> body, RunContext runContext) throws Exception {
+        HttpRequest request = authenticatedRequestBuilder(endpoint, runContext)
+            .method("POST")
+            .body(
+                new HttpRequest.StringRequestBody(
+                    "application/json",
+                    StandardCharsets.UTF_8,
+                    JacksonMapper.ofJson().writeValueAsString(body)
+                )
+            )
+            .build();
+
+        HttpResponse<Map> response = send(client, request, Map.class, runContext);
+        return response.getBody();
+    }
+
+    public enum TargetType {
+        ISSUE,
+        MERGE_REQUEST
+    }
+
+    @Value
+    @Builder
+    @Jacksonized
+    public static class Finding {
+        @Schema(title = "Target type", description = "Whether the finding is posted on an issue or a merge request.")
+        @NotNull
+        TargetType targetType;
+
+        @Schema(title = "Target IID", description = "Internal ID of the issue or merge request within the project.")
+        @NotNull
+        Integer iid;
+
+        @Schema(title = "Finding body", description = "Markdown text of the finding.")
+        @NotNull
+        String body;
+
+        @Schema(title = "File path", description = "Path of the file in the merge request diff; with `line`, the finding is posted as a diff discussion.")
+        String path;
+
+        @Schema(title = "Previous file path", description = "Path of the file before the merge request, for renamed or moved files; defaults to `path`.")
+        String oldPath;
+
+        @Schema(title = "Line number", description = "Line of the new version of `path` the discussion is attached to.")
+        Integer line;
+
+        String resource() {
+            return (targetType == TargetType.ISSUE ? "issues/" : "merge_requests/") + iid;
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Number of findings")
+        private Integer findings;
+
+        @Schema(title = "Number of comments posted", description = "Notes and diff discussions created, i.e. the number of write calls sent to GitLab.")
+        private Integer comments;
+
+        @Schema(title = "Created note IDs", description = "IDs of the notes and discussions created, keyed by target (`issues/<iid>` or `merge_requests/<iid>`) in posting order.")
+        private Map<String, List<Object>> noteIds;
+    }
+}
@@ -0,0 +1,11 @@
+@PluginSubGroup(
+    title = "Notes",
+    description = "Tasks that post comments on GitLab Issues and Merge Requests.\nSet the GitLab host name, project ID, and access token to comment on Issues and Merge Requests.",
+    categories = {
+        PluginSubGroup.PluginCategory.INFRASTRUCTURE,
+        PluginSubGroup.PluginCategory.BUSINESS
+    }
+)
+package io.kestra.plugin.gitlab.notes;
+
+import io.kestra.core.models.annotations.PluginSubGroup;
\ No newline at end of file
@@ -0,0 +1,322 @@
+package io.kestra.plugin.gitlab.registry;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.gitlab.AbstractGitLabTask;
+import io.kestra.plugin.gitlab.QueryParameters;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Clean up container registry tags",
+    description = "Lists the project's container registry repositories and their tags, evaluates retention rules (`nameRegex`, `keepRegex`, `keepLatest`, `olderThan`) and deletes the selected tags concurrently. " +
+        "Every evaluated tag is streamed to an ION report in internal storage with its action and reason. `dryRun` defaults to `true`, so nothing is deleted until it is turned off. " +
+        "A failed deletion does not stop the others: it is reported with `deleted: false` and its `error`, and the report is stored before the task fails with the list of failed tags."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Delete feature-branch image tags older than 30 days, keeping the 10 most recent per repository.",
+            full = true,
+            code = """
+                id: gitlab_registry_cleanup
+                namespace: company.team
+
+                tasks:
+                  - id: cleanup
+                    type: io.kestra.plugin.gitlab.registry.CleanupTags
+                    token: "{{ secret('GITLAB_TOKEN') }}"
+                    projectId: "123"
+                    nameRegex: "feature-.*"
+                    keepRegex: "latest|main|v\\\\d+\\\\.\\\\d+\\\\.\\\\d+"
+                    keepLatest: 10
+                    olderThan: P30D
+                    dryRun: false
+                    concurrency: 16
+                """
+        )
+    }
+)
+public class CleanupTags extends AbstractGitLabTask implements RunnableTask<CleanupTags.Output> {
+
+    @Schema(title = "Repository name filter", description = "Regular expression that must match the whole registry repository path (e.g. `.*/app`); all repositories are processed when not set.")
+    @PluginProperty(group = "processing")
+    private Property<String> repositoryRegex;
+
+    @Schema(title = "Tags to delete", description = "Regular expression that must match the whole tag name for the tag to be eligible for deletion (e.g. `feature-.*`, not `feature-`); defaults to every tag.")
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<String> nameRegex = Property.ofValue(".*");
+
+    @Schema(title = "Tags to keep", description = "Regular expression of tags that are never deleted, even when matching `nameRegex`; like `nameRegex`, it must match the whole tag name, so `latest` does not protect `latest-rc`.")
+    @PluginProperty(group = "main")
+    private Property<String> keepRegex;
+
+    @Schema(title = "Number of latest tags to keep", description = "Per repository, the most recently created eligible tags kept regardless of age.")
+    @PluginProperty(group = "main")
+    private Property<Integer> keepLatest;
+
+    @Schema(title = "Minimum age", description = "Only delete eligible tags created more than this duration ago.")
+    @PluginProperty(group = "main")
+    private Property<Duration> olderThan;
+
+    @Schema(title = "Dry run", description = "When `true` (default), only the report is produced and no tag is deleted.")
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Boolean> dryRun = Property.ofValue(true);
+
+    @Schema(title = "Maximum concurrent requests", description = "Number of tag detail and delete calls sent to GitLab in parallel.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> concurrency = Property.ofValue(8);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        return traceTask(runContext, () -> {
+            Pattern rRepositoryRegex = compile(renderOrNull(this.repositoryRegex, String.class, runContext));
+            Pattern rNameRegex = compile(runContext.render(this.nameRegex).as(String.class).orElse(".*"));
+            Pattern rKeepRegex = compile(renderOrNull(this.keepRegex, String.class, runContext));
+            Integer rKeepLatest = renderOrNull(this.keepLatest, Integer.class, runContext);
+            Duration rOlderThan = renderOrNull(this.olderThan, Duration.class, runContext);
+            boolean rDryRun = runContext.render(this.dryRun).as(Boolean.class).orElse(true);
+            Instant cutoff = rOlderThan == null ? null : Instant.now().minus(rOlderThan);
+
+            // creation dates are only returned by the tag detail endpoint
+            boolean needsDetails = rKeepLatest != null || cutoff != null;
+
+            File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+            long evaluated = 0;
+            long deleted = 0;
+            List<String> failedTags = new ArrayList<>();
+            Exception aborted = null;
+
+            ExecutorService executor = boundedExecutor(runContext.render(this.concurrency).as(Integer.class).orElse(8));
+            try (
+                HttpClient client = httpClient(runContext);
+                OutputStream output = new BufferedOutputStream(Files.newOutputStream(tempFile.toPath()))
+            ) {
+                try {
+                    String repositoriesEndpoint = buildApiEndpoint("registry/repositories", runContext);
+
+                    List<Map<String, Object>> repositories = new ArrayList<>();
+                    paginate(client, repositoriesEndpoint + new QueryParameters().add("per_page", 100), runContext, page -> {
+                        for (Map<String, Object> repository : page) {
+                            if (rRepositoryRegex == null || rRepositoryRegex.matcher(String.valueOf(repository.get("path"))).matches()) {
+                                repositories.add(repository);
+                            }
+                        }
+                        return true;
+                    });
+
+                    for (Map<String, Object> repository : repositories) {
+                        String tagsEndpoint = repositoriesEndpoint + "/" + repository.get("id") + "/tags";
+
+                        List<Map<String, Object>> tags = new ArrayList<>();
+                        paginate(client, tagsEndpoint + new QueryParameters().add("per_page", 100), runContext, page -> {
+                            tags.addAll(page);
+                            return true;
+                        });
+
+                        if (needsDetails) {
+                            List<Future<Map<String, Object>>> details = new ArrayList<>(tags.size());
+                            for (Map<String, Object> tag : tags) {
+                                details.add(executor.submit(() -> tagDetail(client, tagsEndpoint + "/" + encode(tag.get("name")), runContext)));
+                            }
+                            List<Map<String, Object>> detailed = awaitAll(details);
+                            tags.clear();
+                            tags.addAll(detailed);
+                        }
+
+                        List<Map<String, Object>> rows = evaluate(repository, tags, rNameRegex, rKeepRegex, rKeepLatest, cutoff);
+
+                        // a failed deletion is recorded on its row instead of cancelling the others, so the report tells exactly what was deleted
+                        List<Future<Map<String, Object>>> deletions = new ArrayList<>(rows.size());
+                        for (Map<String, Object> row : rows) {
+                            if ("DELETE".equals(row.get("action")) && !rDryRun) {
+                                deletions.add(executor.submit(() -> {
+                                    try {
+                                        request(client, "DELETE", tagsEndpoint + "/" + encode(row.get("tag")), String.class, runContext);
+                                        row.put("deleted", true);
+                                    } catch (Exception e) {
+                                        row.put("deleted", false);
+                                        row.put("error", e.getMessage());
+                                    }
+                                    return row;
+                                }));
+                            } else {
+                                row.put("deleted", false);
+                                deletions.add(CompletableFuture.completedFuture(row));
+                            }
+                        }
+
+                        for (Map<String, Object> row : awaitAll(deletions)) {
+                            if (Boolean.TRUE.equals(row.get("deleted"))) {
+                                deleted++;
+                            } else if (row.containsKey("error")) {
+                                failedTags.add(row.get("repository") + ":" + row.get("tag") + " (" + row.get("error") + ")");
+                            }
+                            FileSerde.write(output, row);
+                            evaluated++;
+                        }
+                    }
+                } catch (Exception e) {
+                    // the rows of the repositories already processed are still stored below
+                    aborted = e;
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            URI uri = runContext.storage().putFile(tempFile);
+            runContext.metric(Counter.of("evaluated", evaluated));
+            runContext.metric(Counter.of("deleted", deleted));
+
+            if (aborted != null) {
+                runContext.logger().error("Cleanup stopped after evaluating {} tag(s) and deleting {}; partial report stored at {}", evaluated, deleted, uri);
+                throw aborted;
+            }
+
+            if (!failedTags.isEmpty()) {
+                throw new IllegalStateException(
+                    "Failed to delete " + failedTags.size() + " of " + (deleted + failedTags.size()) + " tag(s): " + String.join("; ", failedTags) + "; report stored at " + uri
+                );
+            }
+
+            return Output.builder()
+                .uri(uri)
+                .evaluated(evaluated)
+                .deleted(deleted)
+                .dryRun(rDryRun)
+                .build();
+        });
+    }
+
+    private List<Map<String, Object>> evaluate(Map<String, Object> repository, List<Map<String, Object>> tags, Pattern nameRegex, Pattern keepRegex, Integer keepLatest, Instant cutoff) {
+        List<Map<String, Object>> rows = new ArrayList<>(tags.size());
+        List<Map<String, Object>> eligible = new ArrayList<>();
+
+        for (Map<String, Object> tag : tags) {
+            String name = String.valueOf(tag.get("name"));
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("repositoryId", repository.get("id"));
+            row.put("repository", repository.get("path"));
+            row.put("tag", name);
+            row.put("createdAt", tag.get("created_at"));
+
+            if (!nameRegex.matcher(name).matches()) {
+                row.put("action", "KEEP");
+                row.put("reason", "not matching nameRegex");
+            } else if (keepRegex != null && keepRegex.matcher(name).matches()) {
+                row.put("action", "KEEP");
+                row.put("reason", "matching keepRegex");
+            } else {
+                row.put("action", "DELETE");
+                eligible.add(row);
+            }
+            rows.add(row);
+        }
+
+        if (keepLatest != null && keepLatest > 0) {
+            eligible.sort(Comparator.comparing((Map<String, Object> row) -> createdAt(row), Comparator.nullsFirst(Comparator.naturalOrder())).reversed());
+            for (int i = 0; i < Math.min(keepLatest, eligible.size()); i++) {
+                eligible.get(i).put("action", "KEEP");
+                eligible.get(i).put("reason", "within keepLatest");
+            }
+        }
+
+        for (Map<String, Object> row : eligible) {
+            if (!"DELETE".equals(row.get("action")) || cutoff == null) {
+                continue;
+            }
+
+            Instant createdAt = createdAt(row);
+            if (createdAt == null) {
+                row.put("action", "KEEP");
+                row.put("reason", "unknown creation date");
+            } else if (!createdAt.isBefore(cutoff)) {
+                row.put("action", "KEEP");
+                row.put("reason", "newer than olderThan");
+            }
+        }
+
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> tagDetail(HttpClient client, String endpoint, RunContext runContext) throws Exception {
+        return request(client, "GET", endpoint, Map.class, runContext).getBody();
+    }
+
+    private <T> HttpResponse<T> request(HttpClient client, String method, String endpoint, Class<T> cls, RunContext runContext) throws Exception {
+        HttpRequest request = authenticatedRequestBuilder(endpoint, runContext)
+            .method(method)
+            .build();
+
+        return send(client, request, cls, runContext);
+    }
+
+    private static Instant createdAt(Map<String, Object> row) {
+        Object createdAt = row.get("createdAt");
+        return createdAt == null ? null : OffsetDateTime.parse(createdAt.toString()).toInstant();
+    }
+
+    private static Pattern compile(String regex) {
+        return regex == null ? null : Pattern.compile(regex);
+    }
+
+    private static String encode(Object segment) {
+        return URLEncoder.encode(String.valueOf(segment), StandardCharsets.UTF_8);
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "URI of the cleanup report", description = "ION file with one row per evaluated tag: repository, tag, creation date, action (`KEEP` or `DELETE`), reason, whether it was deleted and, for a failed deletion, the `error`.")
+        private URI uri;
+
+        @Schema(title = "Number of evaluated tags")
+        private Long evaluated;
+
+        @Schema(title = "Number of deleted tags", description = "Always `0` in dry-run mode.")
+        private Long deleted;
+
+        @Schema(title = "Dry run", description = "Whether the run only produced the report.")
+        private Boolean dryRun;
+    }
+}
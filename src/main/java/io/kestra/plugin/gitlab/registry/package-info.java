@@ -0,0 +1,11 @@
+@PluginSubGroup(
+    title = "Container Registry",
+    description = "Tasks that manage the GitLab container registry.\nSet the GitLab host name, project ID, and access token to clean up container image tags.",
+    categories = {
+        PluginSubGroup.PluginCategory.INFRASTRUCTURE,
+        PluginSubGroup.PluginCategory.BUSINESS
+    }
+)
+package io.kestra.plugin.gitlab.registry;
+
+import io.kestra.core.models.annotations.PluginSubGroup;
\ No newline at end of file
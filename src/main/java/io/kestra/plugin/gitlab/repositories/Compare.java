@@ -0,0 +1,181 @@
+package io.kestra.plugin.gitlab.repositories;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.gitlab.AbstractGitLabTask;
+import io.kestra.plugin.gitlab.QueryParameters;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Compare two refs",
+    description = "Lists the commits and file diffs between two branches, tags or commits and streams them to two ION files in internal storage. " +
+        "Commits are paged through the commits API with the `from..to` range, so they are never loaded at once. With `includeDiffs: true`, the diffs come from a single call to the compare API, whose whole response (diffs and commits again) is buffered in memory; it is off by default."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Collect the commits and changed files between the last two release tags.",
+            full = true,
+            code = """
+                id: gitlab_release_notes
+                namespace: company.team
+
+                tasks:
+                  - id: compare
+                    type: io.kestra.plugin.gitlab.repositories.Compare
+                    token: "{{ secret('GITLAB_TOKEN') }}"
+                    projectId: "123"
+                    from: v1.0.0
+                    to: v1.1.0
+                    includeDiffs: true
+                """
+        )
+    }
+)
+public class Compare extends AbstractGitLabTask implements RunnableTask<Compare.Output> {
+
+    @Schema(title = "Base ref", description = "Branch, tag or commit SHA the comparison starts from.")
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> from;
+
+    @Schema(title = "Target ref", description = "Branch, tag or commit SHA the comparison ends at.")
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> to;
+
+    @Schema(
+        title = "Include diffs",
+        description = "Also fetch the file diffs from the compare API. GitLab returns them in a single unpaginated response, together with the commits, so the whole response is downloaded and held in memory before the diffs are written; " +
+            "keep it `false` for large ranges, or use `mergerequests.Diffs` which pages through diffs."
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Boolean> includeDiffs = Property.ofValue(false);
+
+    @Schema(title = "Straight comparison", description = "Diff `from` and `to` directly instead of from their merge base.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> straight = Property.ofValue(false);
+
+    @Schema(title = "Page size", description = "Number of commits requested per page, up to 100.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> perPage = Property.ofValue(100);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Output run(RunContext runContext) throws Exception {
+        return traceTask(runContext, () -> {
+            try (HttpClient client = httpClient(runContext)) {
+                String rFrom = runContext.render(this.from).as(String.class).orElseThrow();
+                String rTo = runContext.render(this.to).as(String.class).orElseThrow();
+
+                QueryParameters commitsQuery = new QueryParameters()
+                    .add("ref_name", rFrom + ".." + rTo)
+                    .add("per_page", runContext.render(this.perPage).as(Integer.class).orElse(100));
+
+                File commitsFile = runContext.workingDir().createTempFile(".ion").toFile();
+                AtomicLong commits = new AtomicLong();
+                try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(commitsFile.toPath()))) {
+                    paginate(client, buildApiEndpoint("repository/commits", runContext) + commitsQuery, runContext, page -> {
+                        for (Map<String, Object> commit : page) {
+                            FileSerde.write(output, commit);
+                            commits.incrementAndGet();
+                        }
+                        return true;
+                    });
+                }
+                runContext.metric(Counter.of("commits", commits.get()));
+
+                Output.OutputBuilder result = Output.builder()
+                    .commitsUri(runContext.storage().putFile(commitsFile))
+                    .commitsCount(commits.get());
+
+                if (!runContext.render(this.includeDiffs).as(Boolean.class).orElse(false)) {
+                    return result.build();
+                }
+
+                QueryParameters compareQuery = new QueryParameters()
+                    .add("from", rFrom)
+                    .add("to", rTo)
+                    .add("straight", runContext.render(this.straight).as(Boolean.class).orElse(false));
+
+                HttpRequest request = authenticatedRequestBuilder(buildApiEndpoint("repository/compare", runContext) + compareQuery, runContext)
+                    .method("GET")
+                    .build();
+
+                HttpResponse<Map> response = send(client, request, Map.class, runContext);
+                Map<String, Object> comparison = response.getBody();
+
+                File diffsFile = runContext.workingDir().createTempFile(".ion").toFile();
+                long diffs = 0;
+                try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(diffsFile.toPath()))) {
+                    if (comparison.get("diffs") instanceof List<?> list) {
+                        for (Object diff : list) {
+                            FileSerde.write(output, diff);
+                            diffs++;
+                        }
+                    }
+                }
+                runContext.metric(Counter.of("diffs", diffs));
+
+                return result
+                    .diffsUri(runContext.storage().putFile(diffsFile))
+                    .diffsCount(diffs)
+                    .compareTimeout(Boolean.TRUE.equals(comparison.get("compare_timeout")))
+                    .webUrl((String) comparison.get("web_url"))
+                    .build();
+            }
+        });
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "URI of the commits file", description = "ION file with one GitLab commit per line, newest first.")
+        private URI commitsUri;
+
+        @Schema(title = "Number of commits")
+        private Long commitsCount;
+
+        @Schema(title = "URI of the diffs file", description = "ION file with one GitLab file diff per line; not set when `includeDiffs` is `false`.")
+        private URI diffsUri;
+
+        @Schema(title = "Number of diffs")
+        private Long diffsCount;
+
+        @Schema(title = "Comparison timed out", description = "`true` when GitLab stopped computing the diffs before completion, in which case they are partial.")
+        private Boolean compareTimeout;
+
+        @Schema(title = "Comparison URL", description = "Web URL of the comparison in GitLab.")
+        private String webUrl;
+    }
+}
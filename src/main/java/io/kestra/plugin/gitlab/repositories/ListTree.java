@@ -0,0 +1,136 @@
+package io.kestra.plugin.gitlab.repositories;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.gitlab.AbstractGitLabTask;
+import io.kestra.plugin.gitlab.ExportFormat;
+import io.kestra.plugin.gitlab.ExportWriter;
+import io.kestra.plugin.gitlab.QueryParameters;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "List a repository tree",
+    description = "Lists files and directories of a project repository with keyset pagination and streams each entry to an ION file in internal storage as pages arrive, so very large trees are listed with constant memory. Entries can be filtered by path prefix and type while streaming."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "List every Java file under `src/` on the main branch.",
+            full = true,
+            code = """
+                id: gitlab_list_tree
+                namespace: company.team
+
+                tasks:
+                  - id: list_tree
+                    type: io.kestra.plugin.gitlab.repositories.ListTree
+                    token: "{{ secret('GITLAB_TOKEN') }}"
+                    projectId: "123"
+                    ref: main
+                    path: src
+                    types:
+                      - blob
+                """
+        )
+    }
+)
+public class ListTree extends AbstractGitLabTask implements RunnableTask<ListTree.Output> {
+
+    @Schema(title = "Git reference", description = "Branch, tag or commit to list; defaults to the project's default branch.")
+    @PluginProperty(group = "main")
+    private Property<String> ref;
+
+    @Schema(title = "Directory path", description = "Directory to list, resolved by GitLab; defaults to the repository root.")
+    @PluginProperty(group = "advanced")
+    private Property<String> path;
+
+    @Schema(title = "Recursive listing", description = "List sub-directories recursively; defaults to `true`.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> recursive = Property.ofValue(true);
+
+    @Schema(title = "Path prefix filter", description = "Only keep entries whose path starts with this prefix, applied while streaming.")
+    @PluginProperty(group = "processing")
+    private Property<String> pathPrefix;
+
+    @Schema(title = "Entry types", description = "Only keep entries of these types (`blob`, `tree`, `commit` for submodules), applied while streaming.")
+    @PluginProperty(group = "processing")
+    private Property<List<String>> types;
+
+    @Schema(title = "Page size", description = "Number of entries requested per page, up to 100.")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> perPage = Property.ofValue(100);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        return traceTask(runContext, () -> {
+            try (HttpClient client = httpClient(runContext)) {
+
+                QueryParameters query = new QueryParameters()
+                    .add("ref", renderOrNull(this.ref, String.class, runContext))
+                    .add("path", renderOrNull(this.path, String.class, runContext))
+                    .add("recursive", runContext.render(this.recursive).as(Boolean.class).orElse(true))
+                    .add("pagination", "keyset")
+                    .add("per_page", runContext.render(this.perPage).as(Integer.class).orElse(100));
+
+                String endpoint = buildApiEndpoint("repository/tree", runContext) + query;
+
+                String rPathPrefix = renderOrNull(this.pathPrefix, String.class, runContext);
+                List<String> rTypes = renderListOrNull(this.types, String.class, runContext);
+
+                try (ExportWriter writer = ExportWriter.of(runContext, ExportFormat.ION, null)) {
+                    int pages = paginate(client, endpoint, runContext, page -> {
+                        for (Map<String, Object> entry : page) {
+                            if (rPathPrefix != null && !String.valueOf(entry.get("path")).startsWith(rPathPrefix)) {
+                                continue;
+                            }
+                            if (rTypes != null && !rTypes.isEmpty() && !rTypes.contains(String.valueOf(entry.get("type")))) {
+                                continue;
+                            }
+                            writer.write(entry);
+                        }
+                        return true;
+                    });
+
+                    URI uri = writer.store();
+                    runContext.metric(Counter.of("records", writer.count()));
+                    runContext.metric(Counter.of("pages", pages));
+
+                    return Output.builder()
+                        .uri(uri)
+                        .count(writer.count())
+                        .build();
+                }
+            }
+        });
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "URI of the tree entries file", description = "ION file with one entry (id, name, type, path, mode) per line.")
+        private URI uri;
+
+        @Schema(title = "Number of entries", description = "Count of entries written after filtering.")
+        private Long count;
+    }
+}
@@ -0,0 +1,11 @@
+@PluginSubGroup(
+    title = "Repositories",
+    description = "Tasks that browse GitLab repositories.\nSet the GitLab host name, project ID, and access token to list repository trees and commits, and compare refs.",
+    categories = {
+        PluginSubGroup.PluginCategory.INFRASTRUCTURE,
+        PluginSubGroup.PluginCategory.BUSINESS
+    }
+)
+package io.kestra.plugin.gitlab.repositories;
+
+import io.kestra.core.models.annotations.PluginSubGroup;
\ No newline at end of file
@@ -0,0 +1,201 @@
+package io.kestra.plugin.gitlab;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BatchTest extends WireMockTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBatchWithDependentOperations() throws Exception {
+        wireMock.stubFor(
+            post(urlEqualTo("/api/v4/projects/12345/issues"))
+                .withHeader("PRIVATE-TOKEN", equalTo("test-token"))
+                .withRequestBody(equalToJson("{\"title\":\"Release 1.2.0\"}"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":100,\"iid\":42}")
+                )
+        );
+        wireMock.stubFor(
+            post(urlEqualTo("/api/v4/projects/12345/issues/42/notes"))
+                .withRequestBody(equalToJson("{\"body\":\"Tracking issue #42\"}"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":7}")
+                )
+        );
+        wireMock.stubFor(
+            put(urlEqualTo("/api/v4/projects/12345/issues/42"))
+                .withRequestBody(equalToJson("{\"labels\":\"release\"}"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"iid\":42,\"labels\":[\"release\"]}")
+                )
+        );
+        wireMock.stubFor(
+            post(urlEqualTo("/api/v4/projects/12345/merge_requests"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":9,\"iid\":3}")
+                )
+        );
+
+        Batch task = Batch.builder()
+            .id("batch")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .operations(List.of(
+                Batch.Operation.builder().id("issue").path(Property.ofValue("issues")).body(Property.ofValue(Map.of("title", "Release 1.2.0"))).build(),
+                Batch.Operation.builder().id("comment").path(Property.ofExpression("issues/{{ results['issue'].iid }}/notes")).body(Property.ofExpression("{\"body\": \"Tracking issue #{{ results['issue'].iid }}\"}")).build(),
+                Batch.Operation.builder().id("label").method("PUT").path(Property.ofValue("issues/42")).body(Property.ofValue(Map.of("labels", "release"))).dependsOn(List.of("issue")).build(),
+                Batch.Operation.builder().id("merge_request").path(Property.ofValue("merge_requests")).body(Property.ofValue(Map.of("title", "Release", "source_branch", "release", "target_branch", "main"))).build()
+            ))
+            .build();
+
+        Batch.Output runOutput = task.run(runContextFactory.of());
+
+        assertThat(List.copyOf(runOutput.getResults().keySet()), is(List.of("issue", "comment", "label", "merge_request")));
+        assertThat(((Map<String, Object>) runOutput.getResults().get("comment")).get("id"), is(7));
+        assertThat(((Map<String, Object>) runOutput.getResults().get("merge_request")).get("iid"), is(3));
+        assertThat(runOutput.getStatusCodes().get("issue"), is(201));
+        assertThat(runOutput.getStatusCodes().get("label"), is(200));
+    }
+
+    @Test
+    void testBatchRejectsForwardReference() {
+        Batch task = Batch.builder()
+            .id("batch")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .operations(List.of(
+                Batch.Operation.builder().id("comment").path(Property.ofExpression("issues/{{ results.issue.iid }}/notes")).body(Property.ofValue(Map.of("body", "hello"))).build(),
+                Batch.Operation.builder().id("issue").path(Property.ofValue("issues")).body(Property.ofValue(Map.of("title", "Late"))).build()
+            ))
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(runContextFactory.of()));
+    }
+
+    @Test
+    void testBatchFailsWhenAnOperationFails() {
+        wireMock.stubFor(
+            post(urlEqualTo("/api/v4/projects/54321/issues"))
+                .willReturn(notFound())
+        );
+
+        Batch task = Batch.builder()
+            .id("batch")
+            .projectId(Property.ofValue("54321"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .operations(List.of(
+                Batch.Operation.builder().id("issue").path(Property.ofValue("issues")).body(Property.ofValue(Map.of("title", "Missing project"))).build()
+            ))
+            .build();
+
+        assertThrows(Exception.class, () -> task.run(runContextFactory.of()));
+    }
+
+    @Test
+    void testBatchIgnoresResultsOutsideExpressions() throws Exception {
+        wireMock.stubFor(
+            post(urlEqualTo("/api/v4/projects/777/issues"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":1,\"iid\":1}")
+                )
+        );
+
+        // "results.xml" is plain text and no operation named "xml" exists, so it must not be read as a dependency
+        Batch task = Batch.builder()
+            .id("batch")
+            .projectId(Property.ofValue("777"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .operations(List.of(
+                Batch.Operation.builder().id("issue").path(Property.ofValue("issues")).body(Property.ofValue(Map.of("title", "Flaky tests, see results.xml"))).build()
+            ))
+            .build();
+
+        Batch.Output runOutput = task.run(runContextFactory.of());
+
+        assertThat(runOutput.getStatusCodes().get("issue"), is(201));
+    }
+
+    @Test
+    void testBatchCompletesIndependentOperationsBeforeFailing() {
+        wireMock.stubFor(
+            post(urlEqualTo("/api/v4/projects/888/issues"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":100,\"iid\":42}")
+                )
+        );
+        wireMock.stubFor(
+            put(urlEqualTo("/api/v4/projects/888/issues/42"))
+                .willReturn(serverError())
+        );
+        wireMock.stubFor(
+            post(urlEqualTo("/api/v4/projects/888/merge_requests"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":9,\"iid\":3}")
+                )
+        );
+
+        Batch task = Batch.builder()
+            .id("batch")
+            .projectId(Property.ofValue("888"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .operations(List.of(
+                Batch.Operation.builder().id("issue").path(Property.ofValue("issues")).body(Property.ofValue(Map.of("title", "Release 1.2.0"))).build(),
+                Batch.Operation.builder().id("label").method("PUT").path(Property.ofExpression("issues/{{ results.issue.iid }}")).body(Property.ofValue(Map.of("labels", "release"))).build(),
+                Batch.Operation.builder().id("comment").path(Property.ofValue("issues/42/notes")).body(Property.ofValue(Map.of("body", "Labelled"))).dependsOn(List.of("label")).build(),
+                Batch.Operation.builder().id("merge_request").path(Property.ofValue("merge_requests")).body(Property.ofValue(Map.of("title", "Release", "source_branch", "release", "target_branch", "main"))).build()
+            ))
+            .build();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> task.run(runContextFactory.of()));
+
+        assertThat(exception.getMessage(), containsString("Failed to run 1 of 4 operation(s)"));
+        assertThat(exception.getMessage(), containsString("issue succeeded (201, id 100, iid 42)"));
+        assertThat(exception.getMessage(), containsString("label failed"));
+        assertThat(exception.getMessage(), containsString("comment skipped"));
+        assertThat(exception.getMessage(), containsString("merge_request succeeded (201, id 9, iid 3)"));
+
+        wireMock.verify(1, postRequestedFor(urlEqualTo("/api/v4/projects/888/merge_requests")));
+        wireMock.verify(0, postRequestedFor(urlEqualTo("/api/v4/projects/888/issues/42/notes")));
+    }
+}
@@ -0,0 +1,83 @@
+package io.kestra.plugin.gitlab;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+
+/**
+ * WireMock transformer turning stubbed GitLab responses into a less friendly server: a share of the calls is answered
+ * with `429 Too Many Requests` and GitLab's `RateLimit-*` headers, another share with intermittent `5xx` errors.
+ */
+public class GitLabSimulator implements ResponseDefinitionTransformerV2 {
+    private static final int RATE_LIMIT = 600;
+
+    private final double rateLimitedRatio;
+    private final double serverErrorRatio;
+
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong serverErrors = new AtomicLong();
+
+    public GitLabSimulator(double rateLimitedRatio, double serverErrorRatio) {
+        this.rateLimitedRatio = rateLimitedRatio;
+        this.serverErrorRatio = serverErrorRatio;
+    }
+
+    @Override
+    public ResponseDefinition transform(ServeEvent serveEvent) {
+        ResponseDefinition response = serveEvent.getResponseDefinition();
+        double draw = ThreadLocalRandom.current().nextDouble();
+
+        if (draw < rateLimitedRatio) {
+            rateLimited.incrementAndGet();
+            long reset = Instant.now().plusSeconds(1).getEpochSecond();
+            return ResponseDefinitionBuilder.like(response).but()
+                .withStatus(429)
+                .withHeaders(new HttpHeaders(
+                    new HttpHeader("Content-Type", "application/json"),
+                    new HttpHeader("RateLimit-Limit", String.valueOf(RATE_LIMIT)),
+                    new HttpHeader("RateLimit-Observed", String.valueOf(RATE_LIMIT + 1)),
+                    new HttpHeader("RateLimit-Remaining", "0"),
+                    new HttpHeader("RateLimit-Reset", String.valueOf(reset)),
+                    new HttpHeader("Retry-After", "1")
+                ))
+                .withBody("{\"message\":\"429 Too Many Requests\"}")
+                .build();
+        }
+
+        if (draw < rateLimitedRatio + serverErrorRatio) {
+            serverErrors.incrementAndGet();
+            return ResponseDefinitionBuilder.like(response).but()
+                .withStatus(ThreadLocalRandom.current().nextBoolean() ? 502 : 503)
+                .withHeaders(new HttpHeaders(new HttpHeader("Content-Type", "application/json")))
+                .withBody("{\"message\":\"Service Unavailable\"}")
+                .build();
+        }
+
+        return response;
+    }
+
+    @Override
+    public String getName() {
+        return "gitlab-simulator";
+    }
+
+    public long rateLimited() {
+        return rateLimited.get();
+    }
+
+    public long serverErrors() {
+        return serverErrors.get();
+    }
+
+    public void reset() {
+        rateLimited.set(0);
+        serverErrors.set(0);
+    }
+}
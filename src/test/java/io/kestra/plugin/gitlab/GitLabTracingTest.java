@@ -0,0 +1,160 @@
+package io.kestra.plugin.gitlab;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.gitlab.issues.Search;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GitLabTracingTest extends WireMockTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+
+    @BeforeEach
+    void setUp() {
+        GlobalOpenTelemetry.resetForTest();
+        GlobalOpenTelemetry.set(
+            OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter)).build())
+                .build()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        GlobalOpenTelemetry.resetForTest();
+        exporter.reset();
+    }
+
+    @Test
+    void requestSpansAreChildrenOfTaskSpan() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/issues?state=opened&per_page=1"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("Link", "<" + wireMock.baseUrl() + "/api/v4/projects/12345/issues?state=opened&per_page=1&page=2>; rel=\"next\"")
+                        .withBody("[{\"id\":1,\"iid\":1}]")
+                )
+        );
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/issues?state=opened&per_page=1&page=2"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"id\":2,\"iid\":2}]")
+                )
+        );
+
+        Search task = Search.builder()
+            .id("search-issues")
+            .type(Search.class.getName())
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .perPage(Property.ofValue(1))
+            .exportFormat(Property.ofValue(ExportFormat.ION))
+            .build();
+
+        task.run(runContextFactory.of());
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertThat(spans, hasSize(3));
+
+        SpanData taskSpan = spans.stream().filter(span -> span.getName().startsWith("gitlab.task")).findFirst().orElseThrow();
+        List<SpanData> requestSpans = spans.stream().filter(span -> span.getKind() == SpanKind.CLIENT).toList();
+
+        assertThat(requestSpans, hasSize(2));
+        for (SpanData requestSpan : requestSpans) {
+            assertThat(requestSpan.getName(), is("GET /api/v4/projects/{id}/issues"));
+            assertThat(requestSpan.getParentSpanId(), is(taskSpan.getSpanId()));
+            assertThat(requestSpan.getTraceId(), is(taskSpan.getTraceId()));
+            assertThat(requestSpan.getAttributes().get(AttributeKey.stringKey("gitlab.project")), is("12345"));
+            assertThat(requestSpan.getAttributes().get(AttributeKey.longKey("http.response.status_code")), is(200L));
+        }
+        assertThat(requestSpans.get(1).getAttributes().get(AttributeKey.longKey("gitlab.page")), is(2L));
+    }
+
+    @Test
+    void failedRequestIsRecordedAsError() {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/54321/issues?state=opened"))
+                .willReturn(notFound())
+        );
+
+        Search task = Search.builder()
+            .id("search-issues")
+            .type(Search.class.getName())
+            .projectId(Property.ofValue("54321"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .build();
+
+        assertThrows(Exception.class, () -> task.run(runContextFactory.of()));
+
+        SpanData requestSpan = exporter.getFinishedSpanItems().stream()
+            .filter(span -> span.getKind() == SpanKind.CLIENT)
+            .findFirst()
+            .orElseThrow();
+        assertThat(requestSpan.getStatus().getStatusCode(), is(StatusCode.ERROR));
+
+        SpanData taskSpan = exporter.getFinishedSpanItems().stream()
+            .filter(span -> span.getName().startsWith("gitlab.task"))
+            .findFirst()
+            .orElseThrow();
+        assertThat(taskSpan.getStatus().getStatusCode(), is(StatusCode.ERROR));
+    }
+
+    @Test
+    void taskFailureIsRecordedOnTaskSpan() {
+        Search task = Search.builder()
+            .id("search-issues")
+            .type(Search.class.getName())
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .mirror(Property.ofValue(true))
+            .sort(Property.ofValue("asc"))
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(runContextFactory.of()));
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertThat(spans, hasSize(1));
+        assertThat(spans.getFirst().getStatus().getStatusCode(), is(StatusCode.ERROR));
+        assertThat(spans.getFirst().getEvents().getFirst().getName(), is("exception"));
+    }
+
+    @Test
+    void bodySizeIsMeasuredWithoutContentLength() {
+        HttpResponse<String> response = HttpResponse.<String>builder()
+            .body("[{\"name\":\"é\"}]")
+            .build();
+
+        assertThat(GitLabTracing.bodySize(response), is(15L));
+    }
+}
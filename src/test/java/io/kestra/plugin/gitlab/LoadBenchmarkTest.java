@@ -0,0 +1,264 @@
+package io.kestra.plugin.gitlab;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+import io.kestra.core.http.client.HttpClientResponseException;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.gitlab.issues.Search;
+
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Load and latency benchmark of the plugin tasks against a simulated GitLab, skipped unless run with
+ * {@code -Dgitlab.benchmark=true}. Tuning knobs are system properties prefixed with {@code gitlab.benchmark.}:
+ * {@code concurrency}, {@code iterations}, {@code warmup}, {@code latencyMedianMs}, {@code latencySigma},
+ * {@code pages}, {@code pageSize}, {@code bodySize}, {@code rateLimitedRatio} and {@code serverErrorRatio}.
+ */
+@EnabledIfSystemProperty(named = "gitlab.benchmark", matches = "true")
+class LoadBenchmarkTest extends WireMockTest {
+    private static final int CONCURRENCY = Integer.getInteger("gitlab.benchmark.concurrency", 8);
+    private static final int ITERATIONS = Integer.getInteger("gitlab.benchmark.iterations", 200);
+    private static final int WARMUP = Integer.getInteger("gitlab.benchmark.warmup", 20);
+    private static final int LATENCY_MEDIAN_MS = Integer.getInteger("gitlab.benchmark.latencyMedianMs", 20);
+    private static final double LATENCY_SIGMA = Double.parseDouble(System.getProperty("gitlab.benchmark.latencySigma", "0.4"));
+    private static final int PAGES = Integer.getInteger("gitlab.benchmark.pages", 5);
+    private static final int PAGE_SIZE = Integer.getInteger("gitlab.benchmark.pageSize", 100);
+    private static final int BODY_SIZE = Integer.getInteger("gitlab.benchmark.bodySize", 512);
+    private static final double RATE_LIMITED_RATIO = Double.parseDouble(System.getProperty("gitlab.benchmark.rateLimitedRatio", "0.01"));
+    private static final double SERVER_ERROR_RATIO = Double.parseDouble(System.getProperty("gitlab.benchmark.serverErrorRatio", "0.005"));
+
+    private static final GitLabSimulator SIMULATOR = new GitLabSimulator(RATE_LIMITED_RATIO, SERVER_ERROR_RATIO);
+
+    @RegisterExtension
+    static WireMockExtension gitlab = WireMockExtension.newInstance()
+        .options(
+            wireMockConfig()
+                .dynamicPort()
+                .containerThreads(Math.max(32, CONCURRENCY * 4))
+                .extensions(SIMULATOR)
+        )
+        .build();
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @BeforeEach
+    void stubGitLab() {
+        SIMULATOR.reset();
+
+        String issue = "{\"id\":%d,\"iid\":%d,\"title\":\"Issue %d\",\"state\":\"opened\",\"labels\":[\"bug\"],\"author\":{\"id\":1,\"username\":\"jdoe\"},\"description\":\"" + "x".repeat(BODY_SIZE) + "\"}";
+        for (int page = 1; page <= PAGES; page++) {
+            int first = (page - 1) * PAGE_SIZE;
+            String body = IntStream.range(first, first + PAGE_SIZE)
+                .mapToObj(i -> issue.formatted(i, i, i))
+                .collect(Collectors.joining(",", "[", "]"));
+
+            var response = aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withLogNormalRandomDelay(LATENCY_MEDIAN_MS, LATENCY_SIGMA)
+                .withBody(body);
+            if (page < PAGES) {
+                response.withHeader("X-Next-Page", String.valueOf(page + 1));
+            }
+
+            var request = get(urlPathEqualTo("/api/v4/projects/12345/issues"));
+            gitlab.stubFor(page == 1 ? request.atPriority(5).willReturn(response) : request.atPriority(1).withQueryParam("page", equalTo(String.valueOf(page))).willReturn(response));
+        }
+
+        gitlab.stubFor(
+            post(urlEqualTo("/api/v4/projects/12345/issues"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withLogNormalRandomDelay(LATENCY_MEDIAN_MS, LATENCY_SIGMA)
+                        .withBody("{\"id\":1,\"iid\":1,\"web_url\":\"https://gitlab.example.com/group/project/-/issues/1\"}")
+                )
+        );
+        gitlab.stubFor(
+            post(urlEqualTo("/api/v4/projects/12345/merge_requests"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withLogNormalRandomDelay(LATENCY_MEDIAN_MS, LATENCY_SIGMA)
+                        .withBody("{\"id\":1,\"iid\":1,\"web_url\":\"https://gitlab.example.com/group/project/-/merge_requests/1\"}")
+                )
+        );
+    }
+
+    @Test
+    void issuesSearch() throws Exception {
+        Search task = Search.builder()
+            .id("search")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(gitlab.baseUrl()))
+            .perPage(Property.ofValue(PAGE_SIZE))
+            .exportFormat(Property.ofValue(ExportFormat.ION))
+            // every call must reach the simulated server
+            .coalesceRequests(Property.ofValue(false))
+            .build();
+
+        benchmark("issues.Search", task);
+    }
+
+    @Test
+    void issuesCreate() throws Exception {
+        io.kestra.plugin.gitlab.issues.Create task = io.kestra.plugin.gitlab.issues.Create.builder()
+            .id("create-issue")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(gitlab.baseUrl()))
+            .title(Property.ofValue("Benchmark issue"))
+            .issueDescription(Property.ofValue("x".repeat(BODY_SIZE)))
+            .labels(Property.ofValue(List.of("benchmark")))
+            .build();
+
+        benchmark("issues.Create", task);
+    }
+
+    @Test
+    void mergeRequestsCreate() throws Exception {
+        io.kestra.plugin.gitlab.mergerequests.Create task = io.kestra.plugin.gitlab.mergerequests.Create.builder()
+            .id("create-merge-request")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(gitlab.baseUrl()))
+            .title(Property.ofValue("Benchmark merge request"))
+            .sourceBranch(Property.ofValue("feature"))
+            .targetBranch(Property.ofValue("main"))
+            .build();
+
+        benchmark("mergerequests.Create", task);
+    }
+
+    private void benchmark(String name, RunnableTask<?> task) throws Exception {
+        run(task, WARMUP);
+        SIMULATOR.reset();
+
+        long start = System.nanoTime();
+        Result result = run(task, ITERATIONS);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        long[] latencies = result.latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        System.out.printf(
+            Locale.ROOT,
+            "%-22s concurrency=%d iterations=%d ok=%d rateLimited=%d serverErrors=%d otherErrors=%d throughput=%.1f/s p50=%.1fms p99=%.1fms alloc=%.1fKiB/task (injected: %d x429, %d x5xx)%n",
+            name,
+            CONCURRENCY,
+            ITERATIONS,
+            result.succeeded.get(),
+            result.rateLimited.get(),
+            result.serverErrors.get(),
+            result.otherErrors.get(),
+            ITERATIONS / elapsedSeconds,
+            percentile(latencies, 0.50) / 1e6,
+            percentile(latencies, 0.99) / 1e6,
+            result.allocatedBytes.get() / (double) ITERATIONS / 1024,
+            SIMULATOR.rateLimited(),
+            SIMULATOR.serverErrors()
+        );
+
+        assertThat(result.succeeded.get() + result.rateLimited.get() + result.serverErrors.get() + result.otherErrors.get(), is((long) ITERATIONS));
+        assertThat(result.otherErrors.get(), is(0L));
+    }
+
+    /**
+     * Runs the task {@code iterations} times on {@link #CONCURRENCY} threads. Allocation is measured on the calling
+     * thread only, so buffers allocated by the HTTP client's own I/O threads are not included.
+     */
+    private Result run(RunnableTask<?> task, int iterations) throws Exception {
+        Result result = new Result();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<?>> futures = new ArrayList<>(iterations);
+            for (int i = 0; i < iterations; i++) {
+                futures.add(executor.submit(() -> {
+                    var runContext = runContextFactory.of();
+                    long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+                    long before = System.nanoTime();
+                    try {
+                        task.run(runContext);
+                        result.succeeded.incrementAndGet();
+                    } catch (Exception e) {
+                        result.failed(e);
+                    } finally {
+                        result.latencies.add(System.nanoTime() - before);
+                        result.allocatedBytes.addAndGet(threads.getCurrentThreadAllocatedBytes() - allocatedBefore);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        return result;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static class Result {
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong rateLimited = new AtomicLong();
+        private final AtomicLong serverErrors = new AtomicLong();
+        private final AtomicLong otherErrors = new AtomicLong();
+        private final AtomicLong allocatedBytes = new AtomicLong();
+
+        private void failed(Exception exception) {
+            Throwable cause = exception;
+            while (cause != null && !(cause instanceof HttpClientResponseException)) {
+                cause = cause.getCause();
+            }
+
+            int status = cause instanceof HttpClientResponseException responseException && responseException.getResponse() != null ?
+                responseException.getResponse().getStatus().getCode() : -1;
+
+            if (status == 429) {
+                rateLimited.incrementAndGet();
+            } else if (status >= 500) {
+                serverErrors.incrementAndGet();
+            } else {
+                otherErrors.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.kestra.plugin.gitlab;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.http.HttpResponse;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class RequestCoalescerTest {
+    @Test
+    void waitersAreReleasedWhenTheLeaderFailsWithAnError() {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch waiterSubmitted = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<HttpResponse<Object>> leader = executor.submit(() -> coalescer.execute("key", null, () -> {
+                    calls.incrementAndGet();
+                    leaderStarted.countDown();
+                    waiterSubmitted.await();
+                    Thread.sleep(200);
+                    throw new StackOverflowError("boom");
+                }));
+
+                leaderStarted.await();
+                Future<HttpResponse<Object>> waiter = executor.submit(() -> {
+                    waiterSubmitted.countDown();
+                    return coalescer.execute("key", null, () -> {
+                        calls.incrementAndGet();
+                        throw new IllegalStateException("the waiter must reuse the leader's outcome");
+                    });
+                });
+
+                Exception leaderFailure = assertThrows(Exception.class, leader::get);
+                assertThat(leaderFailure.getCause(), instanceOf(StackOverflowError.class));
+                Exception waiterFailure = assertThrows(Exception.class, waiter::get);
+                assertThat(waiterFailure.getCause(), instanceOf(StackOverflowError.class));
+                assertThat(calls.get(), is(1));
+            } finally {
+                executor.shutdownNow();
+                executor.awaitTermination(1, TimeUnit.SECONDS);
+            }
+        });
+    }
+}
@@ -1,6 +1,17 @@
 
 package io.kestra.plugin.gitlab.issues;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -8,6 +19,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.gitlab.ExportFormat;
 import io.kestra.plugin.gitlab.WireMockTest;
 
 import jakarta.inject.Inject;
@@ -16,6 +29,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SearchTest extends WireMockTest {
@@ -102,4 +116,363 @@ public class SearchTest extends WireMockTest {
         assertThrows(Exception.class, () -> task.run(runContext));
     }
 
+    @Test
+    void testConcurrentIdenticalSearchesAreCoalesced() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/777/issues?search=fan-out&state=opened"))
+                .willReturn(
+                    aResponse()
+                        .withFixedDelay(500)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"id\":1,\"iid\":1,\"project_id\":777,\"title\":\"fan-out\"}]")
+                )
+        );
+
+        Search task = Search.builder()
+            .id("search-issues")
+            .projectId(Property.ofValue("777"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .search(Property.ofValue("fan-out"))
+            .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<Search.Output>> futures = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                futures.add(executor.submit(() -> task.run(runContextFactory.of())));
+            }
+            for (Future<Search.Output> future : futures) {
+                assertThat(future.get().getCount(), is(1));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        wireMock.verify(1, getRequestedFor(urlEqualTo("/api/v4/projects/777/issues?search=fan-out&state=opened")));
+    }
+
+    @Test
+    void testSearchIssuesExportCsvAcrossPages() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/issues?state=opened&per_page=100"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("Link", "<" + wireMock.baseUrl() + "/api/v4/projects/12345/issues?state=opened&per_page=100&page=2>; rel=\"next\"")
+                        .withBody("[{\"iid\":1,\"title\":\"First, issue\",\"author\":{\"username\":\"alice\"},\"milestone\":{\"title\":\"v1\"}}]")
+                )
+        );
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/issues?state=opened&per_page=100&page=2"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"iid\":2,\"title\":\"Second issue\",\"author\":{\"username\":\"bob\"},\"milestone\":null}]")
+                )
+        );
+
+        Search task = Search.builder()
+            .id("search-issues")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .exportFormat(Property.ofValue(ExportFormat.CSV))
+            .columns(Property.ofValue(List.of("iid", "title", "author.username", "milestone.title")))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+
+        Search.Output runOutput = task.run(runContext);
+
+        assertThat(runOutput.getCount(), is(2));
+        assertThat(runOutput.getIssues(), is(nullValue()));
+
+        try (InputStream inputStream = runContext.storage().getFile(runOutput.getUri())) {
+            String csv = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(csv, is(
+                "iid,title,author.username,milestone.title\r\n" +
+                    "1,\"First, issue\",alice,v1\r\n" +
+                    "2,Second issue,bob,\r\n"
+            ));
+        }
+    }
+
+    @Test
+    void testSearchIssuesExportCsvWithoutColumnsUsesUnionOfFields() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/5151/issues?state=opened&per_page=100"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                            [
+                              {"iid":1,"milestone":null},
+                              {"iid":2,"milestone":{"title":"v1"},"closed_by":{"username":"bob"}}
+                            ]
+                            """)
+                )
+        );
+
+        Search task = Search.builder()
+            .id("search-issues")
+            .projectId(Property.ofValue("5151"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .exportFormat(Property.ofValue(ExportFormat.CSV))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        Search.Output runOutput = task.run(runContext);
+
+        try (InputStream inputStream = runContext.storage().getFile(runOutput.getUri())) {
+            String csv = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(csv, is(
+                "iid,milestone.title,closed_by.username\r\n" +
+                    "1,,\r\n" +
+                    "2,v1,bob\r\n"
+            ));
+        }
+    }
+
+    @Test
+    void testSearchIssuesEmptyCsvExportKeepsHeader() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/6161/issues?state=opened&per_page=100"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[]")
+                )
+        );
+
+        Search task = Search.builder()
+            .id("search-issues")
+            .projectId(Property.ofValue("6161"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .exportFormat(Property.ofValue(ExportFormat.CSV))
+            .columns(Property.ofValue(List.of("iid", "title", "author.username")))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        Search.Output runOutput = task.run(runContext);
+
+        assertThat(runOutput.getCount(), is(0));
+
+        try (InputStream inputStream = runContext.storage().getFile(runOutput.getUri())) {
+            String csv = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(csv, is("iid,title,author.username\r\n"));
+        }
+    }
+
+    @Test
+    void testSearchIssuesWithServerSideFilters() throws Exception {
+        wireMock.stubFor(
+            get(urlPathEqualTo("/api/v4/projects/12345/issues"))
+                .withQueryParam("state", equalTo("all"))
+                .withQueryParam("updated_after", equalTo("2024-01-01T00:00:00Z"))
+                .withQueryParam("assignee_id", equalTo("42"))
+                .withQueryParam("author_id", equalTo("7"))
+                .withQueryParam("iids[]", havingExactly("1", "2"))
+                .withQueryParam("not[labels]", equalTo("wontfix,duplicate"))
+                .withQueryParam("order_by", equalTo("updated_at"))
+                .withQueryParam("sort", equalTo("desc"))
+                .withQueryParam("per_page", equalTo("50"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"id\":1,\"iid\":1},{\"id\":2,\"iid\":2}]")
+                )
+        );
+
+        Search task = Search.builder()
+            .id("search-issues")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .state(Property.ofValue("all"))
+            .updatedAfter(Property.ofValue(ZonedDateTime.parse("2024-01-01T00:00:00Z")))
+            .assigneeId(Property.ofValue("42"))
+            .authorId(Property.ofValue(7))
+            .iids(Property.ofValue(List.of(1, 2)))
+            .notLabels(Property.ofValue(List.of("wontfix", "duplicate")))
+            .orderBy(Property.ofValue("updated_at"))
+            .sort(Property.ofValue("desc"))
+            .perPage(Property.ofValue(50))
+            .build();
+
+        Search.Output runOutput = task.run(runContextFactory.of());
+
+        assertThat(runOutput.getCount(), is(2));
+    }
+
+    @Test
+    void testSearchIssuesCountOnly() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/issues_statistics?labels=bug"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"statistics\":{\"counts\":{\"all\":250,\"closed\":180,\"opened\":70}}}")
+                )
+        );
+
+        Search task = Search.builder()
+            .id("search-issues")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .labels(Property.ofValue(List.of("bug")))
+            .countOnly(Property.ofValue(true))
+            .build();
+
+        Search.Output runOutput = task.run(runContextFactory.of());
+
+        assertThat(runOutput.getCount(), is(70));
+        assertThat(runOutput.getCounts().get("all"), is(250));
+        assertThat(runOutput.getIssues(), is(nullValue()));
+        wireMock.verify(0, getRequestedFor(urlPathEqualTo("/api/v4/projects/12345/issues")));
+    }
+
+    @Test
+    void testSearchIssuesFromMirror() throws Exception {
+        wireMock.stubFor(
+            get(urlPathEqualTo("/api/v4/projects/888/issues"))
+                .withQueryParam("updated_after", absent())
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                            [
+                              {"iid":1,"title":"Login page broken","description":"500 on submit","state":"opened","labels":["bug"],"updated_at":"2024-01-01T10:00:00.000Z"},
+                              {"iid":2,"title":"Add dark mode","description":"UI theme","state":"opened","labels":["feature"],"updated_at":"2024-01-02T10:00:00.000Z"}
+                            ]
+                            """)
+                )
+        );
+        wireMock.stubFor(
+            get(urlPathEqualTo("/api/v4/projects/888/issues"))
+                .withQueryParam("updated_after", equalTo("2024-01-02T10:00:00.000Z"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                            [
+                              {"iid":3,"title":"Logout does not clear session","description":"","state":"opened","labels":["bug"],"updated_at":"2024-01-03T10:00:00.000Z"}
+                            ]
+                            """)
+                )
+        );
+
+        Search task = Search.builder()
+            .id("search-issues")
+            .type(Search.class.getName())
+            .projectId(Property.ofValue("888"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .search(Property.ofValue("log"))
+            .labels(Property.ofValue(List.of("bug")))
+            .mirror(Property.ofValue(true))
+            .mirrorMaxStaleness(Property.ofValue(Duration.ZERO))
+            .build();
+
+        Search.Output first = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+        assertThat(first.getCount(), is(1));
+        assertThat(first.getIssues().getFirst().get("iid"), is(1));
+        assertThat(first.getMirrorSyncedAt(), is(notNullValue()));
+        assertThat(first.getIssues().getFirst().containsKey("description"), is(false));
+
+        Search.Output second = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+        assertThat(second.getCount(), is(2));
+        assertThat(second.getIssues().getFirst().get("iid"), is(3));
+
+        wireMock.verify(1, getRequestedFor(urlPathEqualTo("/api/v4/projects/888/issues")).withQueryParam("updated_after", absent()));
+        wireMock.verify(1, getRequestedFor(urlPathEqualTo("/api/v4/projects/888/issues")).withQueryParam("updated_after", matching(".+")));
+    }
+
+    @Test
+    void testSearchIssuesWithFieldProjection() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/4242/issues?state=opened"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                            [{
+                              "id": 1,
+                              "iid": 7,
+                              "title": "Projected issue",
+                              "description": "A very long description",
+                              "author": {"id": 3, "username": "jdoe", "avatar_url": "https://gitlab.example.com/avatar.png"},
+                              "assignees": [{"id": 4, "username": "alice"}, {"id": 5, "username": "bob"}],
+                              "milestone": null,
+                              "_links": {"self": "https://gitlab.example.com/api/v4/projects/4242/issues/7"}
+                            }]
+                            """)
+                )
+        );
+
+        Search task = Search.builder()
+            .id("search-issues")
+            .projectId(Property.ofValue("4242"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .fields(Property.ofValue(List.of("iid", "title", "author.username", "assignees.username", "milestone.title", "missing")))
+            .build();
+
+        Search.Output runOutput = task.run(runContextFactory.of());
+
+        assertThat(runOutput.getCount(), is(1));
+        Map<String, Object> issue = runOutput.getIssues().getFirst();
+        assertThat(List.copyOf(issue.keySet()), is(List.of("iid", "title", "author", "assignees", "milestone")));
+        assertThat(issue.get("iid"), is(7));
+        assertThat(issue.get("author"), is(Map.of("username", "jdoe")));
+        assertThat(issue.get("assignees"), is(List.of(Map.of("username", "alice"), Map.of("username", "bob"))));
+        assertThat(issue.get("milestone"), is(nullValue()));
+    }
+
+    @Test
+    void testMirrorIsNotSharedAcrossTokens() throws Exception {
+        wireMock.stubFor(
+            get(urlPathEqualTo("/api/v4/projects/889/issues"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"iid\":1,\"title\":\"Confidential\",\"state\":\"opened\",\"labels\":[],\"updated_at\":\"2024-01-01T10:00:00.000Z\"}]")
+                )
+        );
+
+        Search.SearchBuilder<?, ?> builder = Search.builder()
+            .id("search-issues")
+            .type(Search.class.getName())
+            .projectId(Property.ofValue("889"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .mirror(Property.ofValue(true));
+
+        Search admin = builder.token(Property.ofValue("admin-token")).build();
+        admin.run(TestsUtils.mockRunContext(runContextFactory, admin, Map.of()));
+
+        Search reporter = builder.token(Property.ofValue("reporter-token")).build();
+        reporter.run(TestsUtils.mockRunContext(runContextFactory, reporter, Map.of()));
+
+        wireMock.verify(2, getRequestedFor(urlPathEqualTo("/api/v4/projects/889/issues")).withQueryParam("updated_after", absent()));
+        wireMock.verify(1, getRequestedFor(urlPathEqualTo("/api/v4/projects/889/issues")).withHeader("PRIVATE-TOKEN", equalTo("reporter-token")));
+    }
+
+    @Test
+    void testMirrorRejectsUnsupportedFilters() {
+        Search task = Search.builder()
+            .id("search-issues")
+            .type(Search.class.getName())
+            .projectId(Property.ofValue("890"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .mirror(Property.ofValue(true))
+            .perPage(Property.ofValue(50))
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of())));
+        wireMock.verify(0, getRequestedFor(urlPathEqualTo("/api/v4/projects/890/issues")));
+    }
 }
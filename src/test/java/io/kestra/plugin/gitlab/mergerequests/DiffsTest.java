@@ -0,0 +1,156 @@
+package io.kestra.plugin.gitlab.mergerequests;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.gitlab.WireMockTest;
+
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DiffsTest extends WireMockTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    private void stubVersions(String projectId, String headCommitSha) {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/" + projectId + "/merge_requests/5/versions"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"id\":2,\"head_commit_sha\":\"" + headCommitSha + "\"},{\"id\":1,\"head_commit_sha\":\"older\"}]")
+                )
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testDiffsAreStreamedFilteredAndTruncated() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/merge_requests/5/diffs?per_page=2"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("X-Next-Page", "2")
+                        .withBody("""
+                            [
+                              {"old_path":"src/main/App.java","new_path":"src/main/App.java","diff":"@@ -1 +1 @@\\n-a\\n+b\\n"},
+                              {"old_path":"README.md","new_path":"README.md","diff":"@@ -1 +1 @@\\n-x\\n+y\\n"},
+                              {"old_path":"Main.java","new_path":"Main.java","diff":"@@ -1 +1 @@\\n-m\\n+n\\n"}
+                            ]
+                            """)
+                )
+        );
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/merge_requests/5/diffs?per_page=2&page=2"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                            [
+                              {"old_path":"src/main/Big.java","new_path":"src/main/Big.java","diff":"%s"}
+                            ]
+                            """.formatted("+line\\n".repeat(100)))
+                )
+        );
+
+        Diffs task = Diffs.builder()
+            .id("diffs")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .mergeRequestIid(Property.ofValue(5))
+            .paths(Property.ofValue(List.of("**/*.java")))
+            .maxDiffSize(Property.ofValue(100))
+            .perPage(Property.ofValue(2))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        Diffs.Output runOutput = task.run(runContext);
+
+        assertThat(runOutput.getCount(), is(3L));
+        assertThat(runOutput.getSkipped(), is(false));
+        assertThat(runOutput.getHeadCommitSha(), is(nullValue()));
+        wireMock.verify(0, getRequestedFor(urlPathEqualTo("/api/v4/projects/12345/merge_requests/5/versions")));
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(runOutput.getUri()), StandardCharsets.UTF_8))) {
+            List<Object> diffs = FileSerde.readAll(reader).collectList().block();
+            assertThat(diffs, hasSize(3));
+            assertThat(((Map<String, Object>) diffs.get(1)).get("new_path"), is("Main.java"));
+            Map<String, Object> big = (Map<String, Object>) diffs.get(2);
+            assertThat(big.get("new_path"), is("src/main/Big.java"));
+            assertThat(big.get("diff"), is(nullValue()));
+            assertThat(big.get("truncated"), is(true));
+        }
+    }
+
+    @Test
+    void testUnchangedMergeRequestIsSkipped() throws Exception {
+        stubVersions("777", "same-sha");
+        wireMock.stubFor(
+            get(urlPathEqualTo("/api/v4/projects/777/merge_requests/5/diffs"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"old_path\":\"a.txt\",\"new_path\":\"a.txt\",\"diff\":\"+a\\n\"}]")
+                )
+        );
+
+        Diffs task = Diffs.builder()
+            .id("diffs")
+            .type(Diffs.class.getName())
+            .projectId(Property.ofValue("777"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .mergeRequestIid(Property.ofValue(5))
+            .skipUnchanged(Property.ofValue(true))
+            .build();
+
+        Diffs.Output first = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+        assertThat(first.getSkipped(), is(false));
+        assertThat(first.getCount(), is(1L));
+        assertThat(first.getHeadCommitSha(), is("same-sha"));
+
+        Diffs.Output second = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+        assertThat(second.getSkipped(), is(true));
+        assertThat(second.getUri(), is(nullValue()));
+
+        wireMock.verify(1, getRequestedFor(urlPathEqualTo("/api/v4/projects/777/merge_requests/5/diffs")));
+    }
+
+    @Test
+    void testDiffsNotFound() {
+        wireMock.stubFor(
+            get(urlPathEqualTo("/api/v4/projects/54321/merge_requests/5/diffs"))
+                .willReturn(notFound())
+        );
+
+        Diffs task = Diffs.builder()
+            .id("diffs")
+            .projectId(Property.ofValue("54321"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .mergeRequestIid(Property.ofValue(5))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+
+        assertThrows(Exception.class, () -> task.run(runContext));
+    }
+}
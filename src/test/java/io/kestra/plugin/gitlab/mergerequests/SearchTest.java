@@ -0,0 +1,243 @@
+package io.kestra.plugin.gitlab.mergerequests;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.gitlab.ExportFormat;
+import io.kestra.plugin.gitlab.WireMockTest;
+
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SearchTest extends WireMockTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void testSearchMergeRequests() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/merge_requests?state=opened&target_branch=main"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"id\":1,\"iid\":1,\"title\":\"Test MR\",\"target_branch\":\"main\"}]")
+                )
+        );
+
+        Search task = Search.builder()
+            .id("search-merge-requests")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .targetBranch(Property.ofValue("main"))
+            .build();
+
+        Search.Output runOutput = task.run(runContextFactory.of());
+
+        assertThat(runOutput.getCount(), is(1));
+        assertThat(runOutput.getMergeRequests().getFirst().get("title"), is("Test MR"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSearchMergeRequestsExportIon() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/merge_requests?state=merged&per_page=100"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("X-Next-Page", "2")
+                        .withBody("[{\"iid\":1,\"title\":\"First MR\",\"author\":{\"username\":\"alice\"}}]")
+                )
+        );
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/merge_requests?state=merged&per_page=100&page=2"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("X-Next-Page", "")
+                        .withBody("[{\"iid\":2,\"title\":\"Second MR\",\"author\":{\"username\":\"bob\"}}]")
+                )
+        );
+
+        Search task = Search.builder()
+            .id("search-merge-requests")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .state(Property.ofValue("merged"))
+            .exportFormat(Property.ofValue(ExportFormat.ION))
+            .columns(Property.ofValue(List.of("iid", "author.username")))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        Search.Output runOutput = task.run(runContext);
+
+        assertThat(runOutput.getCount(), is(2));
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(runOutput.getUri()), StandardCharsets.UTF_8))) {
+            List<Object> rows = FileSerde.readAll(reader).collectList().block();
+            assertThat(rows, hasSize(2));
+            assertThat(((Map<String, Object>) rows.get(1)).get("author.username"), is("bob"));
+        }
+    }
+
+    @Test
+    void testSearchMergeRequestsNotFound() {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/54321/merge_requests?state=opened"))
+                .willReturn(notFound())
+        );
+
+        Search task = Search.builder()
+            .id("search-merge-requests")
+            .projectId(Property.ofValue("54321"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+
+        assertThrows(Exception.class, () -> task.run(runContext));
+    }
+
+    @Test
+    void testSearchMergeRequestsReturnsOnePageOfPerPage() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/merge_requests?state=opened&per_page=2"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("X-Next-Page", "2")
+                        .withBody("[{\"iid\":1,\"title\":\"First MR\"},{\"iid\":2,\"title\":\"Second MR\"}]")
+                )
+        );
+
+        Search task = Search.builder()
+            .id("search-merge-requests")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .perPage(Property.ofValue(2))
+            .build();
+
+        Search.Output runOutput = task.run(runContextFactory.of());
+
+        assertThat(runOutput.getCount(), is(2));
+        wireMock.verify(0, getRequestedFor(urlEqualTo("/api/v4/projects/12345/merge_requests?state=opened&per_page=2&page=2")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSearchMergeRequestsWithEnrichment() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/merge_requests?state=opened&source_branch=feature"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"iid\":1,\"title\":\"First MR\"},{\"iid\":2,\"title\":\"Second MR\"}]")
+                )
+        );
+        for (int iid = 1; iid <= 2; iid++) {
+            wireMock.stubFor(
+                get(urlEqualTo("/api/v4/projects/12345/merge_requests/" + iid))
+                    .willReturn(
+                        aResponse()
+                            .withHeader("Content-Type", "application/json")
+                            .withBody("{\"iid\":" + iid + ",\"changes_count\":\"" + (iid * 10) + "\",\"head_pipeline\":{\"id\":" + (100 + iid) + ",\"status\":\"success\"}}")
+                    )
+            );
+            wireMock.stubFor(
+                get(urlEqualTo("/api/v4/projects/12345/merge_requests/" + iid + "/approvals"))
+                    .willReturn(
+                        aResponse()
+                            .withHeader("Content-Type", "application/json")
+                            .withBody("{\"approved\":" + (iid == 1) + ",\"approvals_required\":1,\"approvals_left\":" + (iid == 1 ? 0 : 1) + ",\"approved_by\":" + (iid == 1 ? "[{\"user\":{\"username\":\"alice\"}}]" : "[]") + "}")
+                    )
+            );
+        }
+
+        Search task = Search.builder()
+            .id("search-merge-requests")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .sourceBranch(Property.ofValue("feature"))
+            .enrich(Property.ofValue(true))
+            .enrichConcurrency(Property.ofValue(2))
+            .build();
+
+        Search.Output runOutput = task.run(runContextFactory.of());
+
+        assertThat(runOutput.getCount(), is(2));
+
+        Map<String, Object> first = runOutput.getMergeRequests().get(0);
+        assertThat(first.get("title"), is("First MR"));
+        assertThat(first.get("changes_count"), is("10"));
+        assertThat(((Map<String, Object>) first.get("head_pipeline")).get("status"), is("success"));
+        assertThat(((Map<String, Object>) first.get("approvals")).get("approved_by"), is(List.of("alice")));
+
+        Map<String, Object> second = runOutput.getMergeRequests().get(1);
+        assertThat(((Map<String, Object>) second.get("approvals")).get("approved"), is(false));
+    }
+
+    @Test
+    void testSearchMergeRequestsWithFieldProjectionAfterEnrichment() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/4343/merge_requests?state=opened"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"iid\":1,\"title\":\"Projected MR\",\"description\":\"A very long description\",\"author\":{\"id\":3,\"username\":\"jdoe\"}}]")
+                )
+        );
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/4343/merge_requests/1"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"iid\":1,\"changes_count\":\"3\",\"head_pipeline\":{\"id\":101,\"status\":\"failed\"}}")
+                )
+        );
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/4343/merge_requests/1/approvals"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"approved\":true,\"approvals_required\":1,\"approvals_left\":0,\"approved_by\":[{\"user\":{\"username\":\"alice\"}}]}")
+                )
+        );
+
+        Search task = Search.builder()
+            .id("search-merge-requests")
+            .projectId(Property.ofValue("4343"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .enrich(Property.ofValue(true))
+            .fields(Property.ofValue(List.of("iid", "author.username", "approvals.approved", "head_pipeline.status")))
+            .build();
+
+        Search.Output runOutput = task.run(runContextFactory.of());
+
+        assertThat(runOutput.getCount(), is(1));
+        Map<String, Object> mergeRequest = runOutput.getMergeRequests().getFirst();
+        assertThat(List.copyOf(mergeRequest.keySet()), is(List.of("iid", "author", "approvals", "head_pipeline")));
+        assertThat(mergeRequest.get("author"), is(Map.of("username", "jdoe")));
+        assertThat(mergeRequest.get("approvals"), is(Map.of("approved", true)));
+        assertThat(mergeRequest.get("head_pipeline"), is(Map.of("status", "failed")));
+    }
+}
@@ -0,0 +1,193 @@
+package io.kestra.plugin.gitlab.notes;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.gitlab.WireMockTest;
+
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BulkCreateTest extends WireMockTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    private static BulkCreate.Finding finding(BulkCreate.TargetType type, int iid, String body) {
+        return BulkCreate.Finding.builder().targetType(type).iid(iid).body(body).build();
+    }
+
+    @Test
+    void testFindingsAreMergedPerTarget() throws Exception {
+        wireMock.stubFor(
+            post(urlEqualTo("/api/v4/projects/12345/merge_requests/5/notes"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":100}")
+                )
+        );
+        wireMock.stubFor(
+            post(urlEqualTo("/api/v4/projects/12345/issues/7/notes"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":200}")
+                )
+        );
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/merge_requests/5/versions"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"id\":2,\"base_commit_sha\":\"base\",\"start_commit_sha\":\"start\",\"head_commit_sha\":\"head\"}]")
+                )
+        );
+        wireMock.stubFor(
+            post(urlEqualTo("/api/v4/projects/12345/merge_requests/5/discussions"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":\"abc\"}")
+                )
+        );
+
+        BulkCreate task = BulkCreate.builder()
+            .id("bulk-create")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .header(Property.ofValue("### Lint"))
+            .maxCommentSize(Property.ofValue(40))
+            .findings(Property.ofValue(List.of(
+                finding(BulkCreate.TargetType.MERGE_REQUEST, 5, "first finding"),
+                finding(BulkCreate.TargetType.ISSUE, 7, "issue finding"),
+                finding(BulkCreate.TargetType.MERGE_REQUEST, 5, "second finding"),
+                finding(BulkCreate.TargetType.MERGE_REQUEST, 5, "third finding"),
+                BulkCreate.Finding.builder()
+                    .targetType(BulkCreate.TargetType.MERGE_REQUEST)
+                    .iid(5)
+                    .path("src/App.java")
+                    .oldPath("src/Main.java")
+                    .line(40)
+                    .body("null dereference")
+                    .build()
+            )))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        BulkCreate.Output runOutput = task.run(runContext);
+
+        assertThat(runOutput.getFindings(), is(5));
+        assertThat(runOutput.getComments(), is(4));
+        assertThat(runOutput.getNoteIds().get("merge_requests/5"), contains((Object) 100, 100, "abc"));
+        assertThat(runOutput.getNoteIds().get("issues/7"), contains((Object) 200));
+
+        List<LoggedRequest> notes = wireMock.findAll(postRequestedFor(urlEqualTo("/api/v4/projects/12345/merge_requests/5/notes")));
+        assertThat(notes, hasSize(2));
+        assertThat(notes.get(0).getBodyAsString(), containsString("### Lint\\n\\nfirst finding\\n\\nsecond finding"));
+        assertThat(notes.get(1).getBodyAsString(), containsString("### Lint\\n\\nthird finding"));
+
+        wireMock.verify(
+            postRequestedFor(urlEqualTo("/api/v4/projects/12345/merge_requests/5/discussions"))
+                .withRequestBody(matchingJsonPath("$.position.head_sha", equalTo("head")))
+                .withRequestBody(matchingJsonPath("$.position.new_path", equalTo("src/App.java")))
+                .withRequestBody(matchingJsonPath("$.position.old_path", equalTo("src/Main.java")))
+                .withRequestBody(matchingJsonPath("$.position.new_line", equalTo("40")))
+        );
+    }
+
+    @Test
+    void testMergeKeepsOversizedFindingAlone() {
+        List<String> comments = BulkCreate.merge(List.of("a", "b".repeat(20), "c"), null, 10);
+
+        assertThat(comments, contains("a", "b".repeat(20), "c"));
+        assertThat(BulkCreate.merge(List.of("a", "b", "c"), "h", 100), contains("h\n\na\n\nb\n\nc"));
+    }
+
+    @Test
+    void testBulkCreateFailure() {
+        wireMock.stubFor(
+            post(urlEqualTo("/api/v4/projects/54321/issues/1/notes"))
+                .willReturn(notFound())
+        );
+
+        BulkCreate task = BulkCreate.builder()
+            .id("bulk-create")
+            .projectId(Property.ofValue("54321"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .findings(Property.ofValue(List.of(finding(BulkCreate.TargetType.ISSUE, 1, "finding"))))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+
+        assertThrows(Exception.class, () -> task.run(runContext));
+    }
+
+    @Test
+    void testFailedTargetDoesNotStopOthers() {
+        wireMock.stubFor(
+            post(urlEqualTo("/api/v4/projects/999/issues/1/notes"))
+                .willReturn(notFound())
+        );
+        wireMock.stubFor(
+            post(urlEqualTo("/api/v4/projects/999/merge_requests/2/notes"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":300}")
+                )
+        );
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/999/merge_requests/2/versions"))
+                .willReturn(serverError())
+        );
+        wireMock.stubFor(
+            post(urlEqualTo("/api/v4/projects/999/issues/3/notes"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":400}")
+                )
+        );
+
+        BulkCreate task = BulkCreate.builder()
+            .id("bulk-create")
+            .projectId(Property.ofValue("999"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .concurrency(Property.ofValue(1))
+            .findings(Property.ofValue(List.of(
+                finding(BulkCreate.TargetType.ISSUE, 1, "lost finding"),
+                finding(BulkCreate.TargetType.MERGE_REQUEST, 2, "general finding"),
+                BulkCreate.Finding.builder().targetType(BulkCreate.TargetType.MERGE_REQUEST).iid(2).path("a.txt").line(1).body("line finding").build(),
+                finding(BulkCreate.TargetType.ISSUE, 3, "posted finding")
+            )))
+            .build();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> task.run(runContextFactory.of()));
+
+        assertThat(exception.getMessage(), containsString("2 of 3 target(s)"));
+        assertThat(exception.getMessage(), containsString("merge_requests/2 failed"));
+        assertThat(exception.getMessage(), containsString("with note IDs [300]"));
+        assertThat(exception.getMessage(), containsString("issues/3 succeeded with note IDs [400]"));
+        wireMock.verify(1, postRequestedFor(urlEqualTo("/api/v4/projects/999/issues/3/notes")));
+    }
+}
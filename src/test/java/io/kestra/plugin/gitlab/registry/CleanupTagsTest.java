@@ -0,0 +1,179 @@
+package io.kestra.plugin.gitlab.registry;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.gitlab.WireMockTest;
+
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CleanupTagsTest extends WireMockTest {
+    private static final String TAGS = "/api/v4/projects/12345/registry/repositories/1/tags";
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @BeforeEach
+    void stubRegistry() {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/registry/repositories?per_page=100"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"id\":1,\"path\":\"group/project/app\"}]")
+                )
+        );
+        wireMock.stubFor(
+            get(urlEqualTo(TAGS + "?per_page=100"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"name\":\"latest\"},{\"name\":\"feature-a\"},{\"name\":\"feature-b\"},{\"name\":\"feature-c\"}]")
+                )
+        );
+
+        Map<String, String> createdAt = Map.of(
+            "latest", "2020-01-01T00:00:00.000+00:00",
+            "feature-a", "2020-01-01T00:00:00.000+00:00",
+            "feature-b", Instant.now().minus(Duration.ofDays(1)).toString(),
+            "feature-c", "2020-02-01T00:00:00.000+00:00"
+        );
+        createdAt.forEach((tag, date) -> wireMock.stubFor(
+            get(urlEqualTo(TAGS + "/" + tag))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"name\":\"" + tag + "\",\"created_at\":\"" + date + "\"}")
+                )
+        ));
+
+        wireMock.stubFor(delete(urlPathMatching(TAGS + "/.*")).willReturn(ok()));
+    }
+
+    private CleanupTags.CleanupTagsBuilder<?, ?> task() {
+        return CleanupTags.builder()
+            .id("cleanup")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .nameRegex(Property.ofValue("feature-.*"))
+            .keepRegex(Property.ofValue("latest"))
+            .keepLatest(Property.ofValue(1))
+            .olderThan(Property.ofValue(Duration.ofDays(30)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testDryRunOnlyReports() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        CleanupTags.Output runOutput = task().build().run(runContext);
+
+        assertThat(runOutput.getEvaluated(), is(4L));
+        assertThat(runOutput.getDeleted(), is(0L));
+        assertThat(runOutput.getDryRun(), is(true));
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(runOutput.getUri()), StandardCharsets.UTF_8))) {
+            Map<String, Object> actions = FileSerde.readAll(reader)
+                .map(row -> (Map<String, Object>) row)
+                .collectList()
+                .block()
+                .stream()
+                .collect(Collectors.toMap(row -> (String) row.get("tag"), row -> row.get("action")));
+
+            assertThat(actions, is(Map.of("latest", "KEEP", "feature-a", "DELETE", "feature-b", "KEEP", "feature-c", "DELETE")));
+        }
+
+        wireMock.verify(0, deleteRequestedFor(urlPathMatching(TAGS + "/.*")));
+    }
+
+    @Test
+    void testDeletesSelectedTags() throws Exception {
+        CleanupTags.Output runOutput = task()
+            .dryRun(Property.ofValue(false))
+            .concurrency(Property.ofValue(2))
+            .build()
+            .run(runContextFactory.of());
+
+        assertThat(runOutput.getDeleted(), is(2L));
+
+        wireMock.verify(1, deleteRequestedFor(urlEqualTo(TAGS + "/feature-a")));
+        wireMock.verify(1, deleteRequestedFor(urlEqualTo(TAGS + "/feature-c")));
+        wireMock.verify(2, deleteRequestedFor(urlPathMatching(TAGS + "/.*")));
+    }
+
+    @Test
+    void testRepositoryFilter() throws Exception {
+        CleanupTags.Output runOutput = task()
+            .repositoryRegex(Property.ofValue(".*/other-image"))
+            .build()
+            .run(runContextFactory.of());
+
+        assertThat(runOutput.getEvaluated(), is(0L));
+        wireMock.verify(0, getRequestedFor(urlPathMatching(TAGS + ".*")));
+    }
+
+    @Test
+    void testRegexesMustMatchTheWholeName() throws Exception {
+        CleanupTags.Output runOutput = task()
+            .nameRegex(Property.ofValue("feature"))
+            .dryRun(Property.ofValue(false))
+            .build()
+            .run(runContextFactory.of());
+
+        assertThat(runOutput.getEvaluated(), is(4L));
+        assertThat(runOutput.getDeleted(), is(0L));
+        wireMock.verify(0, deleteRequestedFor(urlPathMatching(TAGS + "/.*")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFailedDeletionIsReportedWithoutStoppingOthers() throws Exception {
+        wireMock.stubFor(delete(urlEqualTo(TAGS + "/feature-a")).willReturn(notFound()));
+
+        RunContext runContext = runContextFactory.of();
+        CleanupTags task = task()
+            .dryRun(Property.ofValue(false))
+            .concurrency(Property.ofValue(2))
+            .build();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> task.run(runContext));
+        assertThat(exception.getMessage(), containsString("Failed to delete 1 of 2 tag(s): group/project/app:feature-a"));
+
+        wireMock.verify(1, deleteRequestedFor(urlEqualTo(TAGS + "/feature-c")));
+
+        String message = exception.getMessage();
+        URI report = URI.create(message.substring(message.lastIndexOf("report stored at ") + "report stored at ".length()));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(report), StandardCharsets.UTF_8))) {
+            Map<String, Map<String, Object>> rows = FileSerde.readAll(reader)
+                .map(row -> (Map<String, Object>) row)
+                .collectList()
+                .block()
+                .stream()
+                .collect(Collectors.toMap(row -> (String) row.get("tag"), row -> row));
+
+            assertThat(rows.size(), is(4));
+            assertThat(rows.get("feature-a").get("deleted"), is(false));
+            assertThat(rows.get("feature-a").containsKey("error"), is(true));
+            assertThat(rows.get("feature-c").get("deleted"), is(true));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package io.kestra.plugin.gitlab.repositories;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.gitlab.WireMockTest;
+
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CommitsTest extends WireMockTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCommitsAreStreamedAcrossPages() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/repository/commits?ref_name=v1.0.0..v1.1.0&per_page=2"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("X-Next-Page", "2")
+                        .withBody("""
+                            [
+                              {"id":"c3","title":"Third","committed_date":"2024-03-03T10:00:00.000+00:00","parent_ids":["c2"]},
+                              {"id":"c2","title":"Second","committed_date":"2024-03-02T10:00:00.000+00:00","parent_ids":["c1"]}
+                            ]
+                            """)
+                )
+        );
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/repository/commits?ref_name=v1.0.0..v1.1.0&per_page=2&page=2"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"id\":\"c1\",\"title\":\"First\",\"committed_date\":\"2024-03-01T10:00:00.000+00:00\",\"parent_ids\":[]}]")
+                )
+        );
+
+        Commits task = Commits.builder()
+            .id("commits")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .refName(Property.ofValue("v1.0.0..v1.1.0"))
+            .perPage(Property.ofValue(2))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        Commits.Output runOutput = task.run(runContext);
+
+        assertThat(runOutput.getCount(), is(3L));
+        assertThat(runOutput.getLastCommittedDate(), is("2024-03-03T10:00Z"));
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(runOutput.getUri()), StandardCharsets.UTF_8))) {
+            List<Object> commits = FileSerde.readAll(reader).collectList().block();
+            assertThat(commits, hasSize(3));
+            assertThat(((Map<String, Object>) commits.getFirst()).get("parent_ids"), is(List.of("c2")));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testIncrementalRunListsCommitsSincePreviousHead() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/777/repository/commits/main"))
+                .inScenario("push")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willSetStateTo("pushed")
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":\"c2\"}")
+                )
+        );
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/777/repository/commits/main"))
+                .inScenario("push")
+                .whenScenarioStateIs("pushed")
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":\"c4\"}")
+                )
+        );
+        wireMock.stubFor(
+            get(urlPathEqualTo("/api/v4/projects/777/repository/commits"))
+                .withQueryParam("ref_name", equalTo("c2"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                            [
+                              {"id":"c2","committed_date":"2024-03-02T10:00:00.000+00:00"},
+                              {"id":"c1","committed_date":"2024-03-01T10:00:00.000+00:00"}
+                            ]
+                            """)
+                )
+        );
+        // c3 was committed on a branch before c2 and merged afterwards: a date cursor would miss it
+        wireMock.stubFor(
+            get(urlPathEqualTo("/api/v4/projects/777/repository/commits"))
+                .withQueryParam("ref_name", equalTo("c2..c4"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                            [
+                              {"id":"c4","committed_date":"2024-03-05T10:00:00.000+00:00"},
+                              {"id":"c3","committed_date":"2024-02-20T10:00:00.000+00:00"}
+                            ]
+                            """)
+                )
+        );
+
+        Commits task = Commits.builder()
+            .id("commits")
+            .type(Commits.class.getName())
+            .projectId(Property.ofValue("777"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .refName(Property.ofValue("main"))
+            .incremental(Property.ofValue(true))
+            .build();
+
+        Commits.Output first = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+        assertThat(first.getCount(), is(2L));
+        assertThat(first.getHeadSha(), is("c2"));
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        Commits.Output second = task.run(runContext);
+        assertThat(second.getCount(), is(2L));
+        assertThat(second.getHeadSha(), is("c4"));
+        assertThat(second.getLastCommittedDate(), is("2024-03-05T10:00Z"));
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(second.getUri()), StandardCharsets.UTF_8))) {
+            List<Object> commits = FileSerde.readAll(reader).collectList().block();
+            assertThat(((Map<String, Object>) commits.get(1)).get("id"), is("c3"));
+        }
+
+        Commits.Output third = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+        assertThat(third.getCount(), is(0L));
+
+        wireMock.verify(2, getRequestedFor(urlPathEqualTo("/api/v4/projects/777/repository/commits")));
+        wireMock.verify(0, getRequestedFor(urlPathEqualTo("/api/v4/projects/777/repository/commits")).withQueryParam("since", matching(".*")));
+    }
+
+    @Test
+    void testCommitsNotFound() {
+        wireMock.stubFor(
+            get(urlPathEqualTo("/api/v4/projects/54321/repository/commits"))
+                .willReturn(notFound())
+        );
+
+        Commits task = Commits.builder()
+            .id("commits")
+            .projectId(Property.ofValue("54321"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+
+        assertThrows(Exception.class, () -> task.run(runContext));
+    }
+}
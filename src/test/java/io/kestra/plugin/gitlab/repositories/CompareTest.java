@@ -0,0 +1,140 @@
+package io.kestra.plugin.gitlab.repositories;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.gitlab.WireMockTest;
+
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CompareTest extends WireMockTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    private void stubCommits(String projectId) {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/" + projectId + "/repository/commits?ref_name=v1.0.0..v1.1.0&per_page=100"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                            [
+                              {"id":"c2","title":"Add feature"},
+                              {"id":"c1","title":"Fix bug"}
+                            ]
+                            """)
+                )
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCompareStreamsCommitsAndDiffs() throws Exception {
+        stubCommits("12345");
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/repository/compare?from=v1.0.0&to=v1.1.0&straight=false"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                            {
+                              "commit": {"id":"c2"},
+                              "commits": [{"id":"c1"},{"id":"c2"}],
+                              "diffs": [
+                                {"old_path":"README.md","new_path":"README.md","diff":"@@ -1 +1 @@\\n-a\\n+b\\n"}
+                              ],
+                              "compare_timeout": false,
+                              "web_url": "https://gitlab.example.com/group/project/-/compare/v1.0.0...v1.1.0"
+                            }
+                            """)
+                )
+        );
+
+        Compare task = Compare.builder()
+            .id("compare")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .from(Property.ofValue("v1.0.0"))
+            .to(Property.ofValue("v1.1.0"))
+            .includeDiffs(Property.ofValue(true))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        Compare.Output runOutput = task.run(runContext);
+
+        assertThat(runOutput.getCommitsCount(), is(2L));
+        assertThat(runOutput.getDiffsCount(), is(1L));
+        assertThat(runOutput.getCompareTimeout(), is(false));
+        assertThat(runOutput.getWebUrl(), is("https://gitlab.example.com/group/project/-/compare/v1.0.0...v1.1.0"));
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(runOutput.getCommitsUri()), StandardCharsets.UTF_8))) {
+            List<Object> commits = FileSerde.readAll(reader).collectList().block();
+            assertThat(commits, hasSize(2));
+            assertThat(((Map<String, Object>) commits.getFirst()).get("title"), is("Add feature"));
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(runOutput.getDiffsUri()), StandardCharsets.UTF_8))) {
+            List<Object> diffs = FileSerde.readAll(reader).collectList().block();
+            assertThat(diffs, hasSize(1));
+            assertThat(((Map<String, Object>) diffs.getFirst()).get("new_path"), is("README.md"));
+        }
+    }
+
+    @Test
+    void testCompareWithoutDiffsByDefault() throws Exception {
+        stubCommits("777");
+
+        Compare task = Compare.builder()
+            .id("compare")
+            .projectId(Property.ofValue("777"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .from(Property.ofValue("v1.0.0"))
+            .to(Property.ofValue("v1.1.0"))
+            .build();
+
+        Compare.Output runOutput = task.run(runContextFactory.of());
+
+        assertThat(runOutput.getCommitsCount(), is(2L));
+        assertThat(runOutput.getDiffsUri(), is(nullValue()));
+        wireMock.verify(0, getRequestedFor(urlPathEqualTo("/api/v4/projects/777/repository/compare")));
+    }
+
+    @Test
+    void testCompareNotFound() {
+        wireMock.stubFor(
+            get(urlPathEqualTo("/api/v4/projects/54321/repository/commits"))
+                .willReturn(notFound())
+        );
+
+        Compare task = Compare.builder()
+            .id("compare")
+            .projectId(Property.ofValue("54321"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .from(Property.ofValue("v1.0.0"))
+            .to(Property.ofValue("v1.1.0"))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+
+        assertThrows(Exception.class, () -> task.run(runContext));
+    }
+}
@@ -0,0 +1,102 @@
+package io.kestra.plugin.gitlab.repositories;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.gitlab.WireMockTest;
+
+import jakarta.inject.Inject;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ListTreeTest extends WireMockTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testListTreeWithKeysetPagination() throws Exception {
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/repository/tree?ref=main&recursive=true&pagination=keyset&per_page=2"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("Link", "<" + wireMock.baseUrl() + "/api/v4/projects/12345/repository/tree?ref=main&recursive=true&pagination=keyset&per_page=2&page_token=abc>; rel=\"next\"")
+                        .withBody("""
+                            [
+                              {"id":"a1","name":"src","type":"tree","path":"src","mode":"040000"},
+                              {"id":"b2","name":"Main.java","type":"blob","path":"src/Main.java","mode":"100644"}
+                            ]
+                            """)
+                )
+        );
+        wireMock.stubFor(
+            get(urlEqualTo("/api/v4/projects/12345/repository/tree?ref=main&recursive=true&pagination=keyset&per_page=2&page_token=abc"))
+                .willReturn(
+                    aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                            [
+                              {"id":"c3","name":"README.md","type":"blob","path":"README.md","mode":"100644"}
+                            ]
+                            """)
+                )
+        );
+
+        ListTree task = ListTree.builder()
+            .id("list-tree")
+            .projectId(Property.ofValue("12345"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .ref(Property.ofValue("main"))
+            .perPage(Property.ofValue(2))
+            .types(Property.ofValue(List.of("blob")))
+            .pathPrefix(Property.ofValue("src/"))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        ListTree.Output runOutput = task.run(runContext);
+
+        assertThat(runOutput.getCount(), is(1L));
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(runOutput.getUri()), StandardCharsets.UTF_8))) {
+            List<Object> entries = FileSerde.readAll(reader).collectList().block();
+            assertThat(entries, hasSize(1));
+            assertThat(((Map<String, Object>) entries.getFirst()).get("path"), is("src/Main.java"));
+        }
+
+        wireMock.verify(2, getRequestedFor(urlPathEqualTo("/api/v4/projects/12345/repository/tree")));
+    }
+
+    @Test
+    void testListTreeNotFound() {
+        wireMock.stubFor(
+            get(urlPathEqualTo("/api/v4/projects/54321/repository/tree"))
+                .willReturn(notFound())
+        );
+
+        ListTree task = ListTree.builder()
+            .id("list-tree")
+            .projectId(Property.ofValue("54321"))
+            .token(Property.ofValue("test-token"))
+            .url(Property.ofValue(wireMock.baseUrl()))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+
+        assertThrows(Exception.class, () -> task.run(runContext));
+    }
+}